@@ -0,0 +1,67 @@
+/*
+** © Bart Kampers
+** This code may not be used for any purpose that harms humans (including
+** exploitation and discrimination), humanity, the environment or the
+** universe.
+*/
+
+package bka.math.graphs.benchmarks;
+
+import bka.math.graphs.*;
+import bka.math.graphs.finders.*;
+import java.util.*;
+import java.util.concurrent.*;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Compares the directed trail finders on a random directed graph.
+ * Run with '-prof gc' to report allocation rates next to throughput.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DirectedTrailFinderBenchmark {
+
+    @Param({ "recursive", "indexed", "parallel" })
+    public String finder;
+
+    @Setup
+    public void setup() {
+        explorer = new GraphExplorer<>(createFinder(finder));
+        subject = GraphGenerators.randomDirected(9, 0.3, SEED);
+    }
+
+    @Benchmark
+    public Collection<List<DirectedEdge<Integer>>> findAllTrails() {
+        return explorer.findAllTrails(subject, START);
+    }
+
+    @Benchmark
+    public Collection<List<DirectedEdge<Integer>>> findAllPaths() {
+        return explorer.findAllPaths(subject, START);
+    }
+
+    @Benchmark
+    public Collection<List<DirectedEdge<Integer>>> findAllCycles() {
+        return explorer.findAllCycles(subject, START);
+    }
+
+    private static TrailFinder<Integer, DirectedEdge<Integer>> createFinder(String name) {
+        return switch (name) {
+            case "recursive" -> new RecursiveDirectedTrailFinder<>();
+            case "indexed" -> new IndexedDirectedTrailFinder<>();
+            case "parallel" -> new ParallelTrailFinder<>(new IndexedDirectedTrailFinder<>());
+            default -> throw new IllegalArgumentException("Unknown finder: " + name);
+        };
+    }
+
+    private GraphExplorer<Integer, DirectedEdge<Integer>> explorer;
+    private Digraph<Integer> subject;
+
+    private static final Integer START = 0;
+    private static final long SEED = 42L;
+
+}
@@ -0,0 +1,108 @@
+/*
+** © Bart Kampers
+** This code may not be used for any purpose that harms humans (including
+** exploitation and discrimination), humanity, the environment or the
+** universe.
+*/
+
+package bka.math.graphs.benchmarks;
+
+import bka.math.graphs.*;
+import java.util.*;
+
+/**
+ * Synthetic graphs for benchmarks. Random graphs are generated from a seed, so every run benchmarks the same graph.
+ * Vertices are integers ranging from 0 to the number of vertices.
+ */
+public final class GraphGenerators {
+
+    private GraphGenerators() {
+    }
+
+    /**
+     * @param rows
+     * @param columns
+     * @return undirected grid graph where every vertex is joined to its horizontal and vertical neighbours
+     */
+    public static Graph<Integer> grid(int rows, int columns) {
+        DefaultMutableGraph<Integer> graph = new DefaultMutableGraph<>();
+        for (int row = 0; row < rows; ++row) {
+            for (int column = 0; column < columns; ++column) {
+                int vertex = row * columns + column;
+                graph.addVertex(vertex);
+                if (column + 1 < columns) {
+                    graph.addEdge(new UndirectedEdge<>(vertex, vertex + 1));
+                }
+                if (row + 1 < rows) {
+                    graph.addEdge(new UndirectedEdge<>(vertex, vertex + columns));
+                }
+            }
+        }
+        return graph;
+    }
+
+    /**
+     * @param vertexCount
+     * @param probability that a pair of distinct vertices is joined by an edge
+     * @param seed
+     * @return undirected Erdős–Rényi random graph
+     * @see <a href="https://en.wikipedia.org/wiki/Erd%C5%91s%E2%80%93R%C3%A9nyi_model">Erdős–Rényi model on Wikipedia</a>
+     */
+    public static Graph<Integer> random(int vertexCount, double probability, long seed) {
+        Random random = new Random(seed);
+        DefaultMutableGraph<Integer> graph = new DefaultMutableGraph<>();
+        for (int vertex1 = 0; vertex1 < vertexCount; ++vertex1) {
+            graph.addVertex(vertex1);
+            for (int vertex2 = vertex1 + 1; vertex2 < vertexCount; ++vertex2) {
+                if (random.nextDouble() < probability) {
+                    graph.addEdge(new UndirectedEdge<>(vertex1, vertex2));
+                }
+            }
+        }
+        return graph;
+    }
+
+    /**
+     * @param vertexCount
+     * @param probability that an ordered pair of distinct vertices is joined by an edge
+     * @param seed
+     * @return directed Erdős–Rényi random graph
+     */
+    public static Digraph<Integer> randomDirected(int vertexCount, double probability, long seed) {
+        Random random = new Random(seed);
+        DefaultMutableDigraph<Integer> graph = new DefaultMutableDigraph<>();
+        for (int origin = 0; origin < vertexCount; ++origin) {
+            graph.addVertex(origin);
+            for (int terminus = 0; terminus < vertexCount; ++terminus) {
+                if (origin != terminus && random.nextDouble() < probability) {
+                    graph.addEdge(new DirectedEdge<>(origin, terminus));
+                }
+            }
+        }
+        return graph;
+    }
+
+    /**
+     * @param vertexCount
+     * @return undirected complete graph K_n
+     */
+    public static Graph<Integer> complete(int vertexCount) {
+        return random(vertexCount, 1.0, 0L);
+    }
+
+    /**
+     * @return multigraph of the seven bridges of Königsberg: the north bank (0), the west island (1), the east island (2) and the south bank (3)
+     * @see <a href="https://en.wikipedia.org/wiki/Seven_Bridges_of_K%C3%B6nigsberg">Seven Bridges of Königsberg on Wikipedia</a>
+     */
+    public static Graph<Integer> koenigsberg() {
+        return new DefaultMutableGraph<>(List.of(
+            new UndirectedEdge<>(0, 1),
+            new UndirectedEdge<>(0, 1),
+            new UndirectedEdge<>(0, 2),
+            new UndirectedEdge<>(1, 2),
+            new UndirectedEdge<>(3, 1),
+            new UndirectedEdge<>(3, 1),
+            new UndirectedEdge<>(3, 2)));
+    }
+
+}
@@ -0,0 +1,72 @@
+/*
+** © Bart Kampers
+** This code may not be used for any purpose that harms humans (including
+** exploitation and discrimination), humanity, the environment or the
+** universe.
+*/
+
+package bka.math.graphs.benchmarks;
+
+import bka.math.graphs.*;
+import bka.math.graphs.utils.*;
+import java.util.*;
+import java.util.concurrent.*;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.*;
+
+/**
+ * Measures mutation of MutableGraph and degree computation on a sparse random graph.
+ * Run with '-prof gc' to report allocation rates next to throughput.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MutableGraphBenchmark {
+
+    @Param({ "1000" })
+    public int vertexCount;
+
+    @Setup
+    public void setup() {
+        source = GraphGenerators.random(vertexCount, AVERAGE_DEGREE / vertexCount, SEED);
+        edges = new ArrayList<>(source.getEdges());
+        vertices = new ArrayList<>(source.getVertices());
+    }
+
+    @Benchmark
+    public MutableGraph<Integer, Edge<Integer>> addEdges() {
+        return new DefaultMutableGraph<>(vertices, edges);
+    }
+
+    @Benchmark
+    public MutableGraph<Integer, Edge<Integer>> removeEdges() {
+        DefaultMutableGraph<Integer> graph = new DefaultMutableGraph<>(source);
+        graph.removeEdges(edges);
+        return graph;
+    }
+
+    @Benchmark
+    public MutableGraph<Integer, Edge<Integer>> removeVertices() {
+        DefaultMutableGraph<Integer> graph = new DefaultMutableGraph<>(source);
+        graph.removeVertices(vertices);
+        return graph;
+    }
+
+    @Benchmark
+    public void degree(Blackhole blackhole) {
+        for (Integer vertex : vertices) {
+            blackhole.consume(GraphUtil.degree(source, vertex));
+        }
+    }
+
+    private Graph<Integer> source;
+    private List<Edge<Integer>> edges;
+    private List<Integer> vertices;
+
+    private static final double AVERAGE_DEGREE = 8.0;
+    private static final long SEED = 42L;
+
+}
@@ -0,0 +1,81 @@
+/*
+** © Bart Kampers
+** This code may not be used for any purpose that harms humans (including
+** exploitation and discrimination), humanity, the environment or the
+** universe.
+*/
+
+package bka.math.graphs.benchmarks;
+
+import bka.math.graphs.*;
+import bka.math.graphs.finders.*;
+import java.util.*;
+import java.util.concurrent.*;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Compares the undirected trail finders on synthetic graphs.
+ * Run with '-prof gc' to report allocation rates next to throughput.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TrailFinderBenchmark {
+
+    @Param({ "recursive", "nonRecursive", "indexed", "parallel" })
+    public String finder;
+
+    @Param({ "grid", "random", "complete", "koenigsberg" })
+    public String graph;
+
+    @Setup
+    public void setup() {
+        explorer = new GraphExplorer<>(createFinder(finder));
+        subject = createGraph(graph);
+    }
+
+    @Benchmark
+    public Collection<List<Edge<Integer>>> findAllTrails() {
+        return explorer.findAllTrails(subject, START);
+    }
+
+    @Benchmark
+    public Collection<List<Edge<Integer>>> findAllPaths() {
+        return explorer.findAllPaths(subject, START);
+    }
+
+    @Benchmark
+    public Collection<List<Edge<Integer>>> findAllCycles() {
+        return explorer.findAllCycles(subject, START);
+    }
+
+    private static TrailFinder<Integer, Edge<Integer>> createFinder(String name) {
+        return switch (name) {
+            case "recursive" -> new RecursiveTrailFinder<>();
+            case "nonRecursive" -> new NonRecursiveTrailFinder<>();
+            case "indexed" -> new IndexedTrailFinder<>();
+            case "parallel" -> new ParallelTrailFinder<>();
+            default -> throw new IllegalArgumentException("Unknown finder: " + name);
+        };
+    }
+
+    private static Graph<Integer> createGraph(String name) {
+        return switch (name) {
+            case "grid" -> GraphGenerators.grid(3, 3);
+            case "random" -> GraphGenerators.random(9, 0.3, SEED);
+            case "complete" -> GraphGenerators.complete(5);
+            case "koenigsberg" -> GraphGenerators.koenigsberg();
+            default -> throw new IllegalArgumentException("Unknown graph: " + name);
+        };
+    }
+
+    private GraphExplorer<Integer, Edge<Integer>> explorer;
+    private Graph<Integer> subject;
+
+    private static final Integer START = 0;
+    private static final long SEED = 42L;
+
+}
@@ -0,0 +1,360 @@
+/*
+** © Bart Kampers
+** This code may not be used for any purpose that harms humans (including
+** exploitation and discrimination), humanity, the environment or the
+** universe.
+*/
+package bka.math.graphs;
+
+import java.util.*;
+
+/**
+ * Read-only snapshot of a graph, compiled for read-heavy workloads.
+ * Vertices and edges are mapped to dense indices. Adjacency is stored in compressed sparse row (CSR) arrays:
+ * one for the incidence of all edges and, for edges of type DirectedEdge, one for outgoing and one for incoming edges.
+ * Besides the GraphBase interface this class offers index based accessors that let algorithms work on primitive ints.
+ * @see bka.math.graphs.GraphBase
+ * @param <V> Vertex type
+ * @param <E> Edge of Vertex type
+ */
+public class CompactGraph<V, E extends Edge<V>> implements IndexedGraph<V, E> {
+
+    /**
+     * Create a compact copy of given graph
+     *
+     * @param graph
+     */
+    public CompactGraph(GraphBase<V, E> graph) {
+        this(graph.getVertices(), graph.getEdges());
+    }
+
+    /**
+     * Create a compact graph of given edges.
+     *
+     * @param edges
+     */
+    public CompactGraph(Collection<E> edges) {
+        this(Collections.emptySet(), edges);
+    }
+
+    /**
+     * Create a compact graph of given vertices and edges. Duplicate edges are ignored.
+     *
+     * @param vertices
+     * @param edges
+     */
+    @SuppressWarnings("unchecked")
+    public CompactGraph(Collection<V> vertices, Collection<E> edges) {
+        Collection<E> distinctEdges = (edges instanceof Set) ? edges : new LinkedHashSet<>(edges);
+        vertices.forEach(vertexIndex::intern);
+        this.edges = (E[]) new Edge<?>[distinctEdges.size()];
+        firstVertices = new int[this.edges.length];
+        secondVertices = new int[this.edges.length];
+        int edgeIndex = 0;
+        for (E edge : distinctEdges) {
+            Iterator<V> iterator = edge.getVertices().iterator();
+            this.edges[edgeIndex] = edge;
+            firstVertices[edgeIndex] = vertexIndex.intern(iterator.next());
+            secondVertices[edgeIndex] = vertexIndex.intern(iterator.next());
+            if (edge instanceof DirectedEdge) {
+                directed.set(edgeIndex);
+            }
+            edgeIndex++;
+        }
+        int vertexCount = vertexIndex.size();
+        incidenceOffsets = new int[vertexCount + 1];
+        outgoingOffsets = new int[vertexCount + 1];
+        incomingOffsets = new int[vertexCount + 1];
+        for (int edge = 0; edge < this.edges.length; ++edge) {
+            incidenceOffsets[firstVertices[edge] + 1]++;
+            if (firstVertices[edge] != secondVertices[edge]) {
+                incidenceOffsets[secondVertices[edge] + 1]++;
+            }
+            if (directed.get(edge)) {
+                outgoingOffsets[firstVertices[edge] + 1]++;
+                incomingOffsets[secondVertices[edge] + 1]++;
+            }
+        }
+        accumulate(incidenceOffsets);
+        accumulate(outgoingOffsets);
+        accumulate(incomingOffsets);
+        incidentEdges = new int[incidenceOffsets[vertexCount]];
+        outgoingEdges = new int[outgoingOffsets[vertexCount]];
+        incomingEdges = new int[incomingOffsets[vertexCount]];
+        int[] incidenceFill = Arrays.copyOf(incidenceOffsets, vertexCount);
+        int[] outgoingFill = Arrays.copyOf(outgoingOffsets, vertexCount);
+        int[] incomingFill = Arrays.copyOf(incomingOffsets, vertexCount);
+        for (int edge = 0; edge < this.edges.length; ++edge) {
+            incidentEdges[incidenceFill[firstVertices[edge]]++] = edge;
+            if (firstVertices[edge] != secondVertices[edge]) {
+                incidentEdges[incidenceFill[secondVertices[edge]]++] = edge;
+            }
+            if (directed.get(edge)) {
+                outgoingEdges[outgoingFill[firstVertices[edge]]++] = edge;
+                incomingEdges[incomingFill[secondVertices[edge]]++] = edge;
+            }
+        }
+        edgeSet = Collections.unmodifiableSet(new EdgeSet(null, 0, this.edges.length));
+    }
+
+    /**
+     * @param <V> Vertex type
+     * @param <E> Edge of Vertex type
+     * @param graph
+     * @return given graph if it is a compact graph, a compact copy of given graph otherwise
+     */
+    public static <V, E extends Edge<V>> CompactGraph<V, E> of(GraphBase<V, E> graph) {
+        return (graph instanceof CompactGraph<V, E> compactGraph) ? compactGraph : new CompactGraph<>(graph);
+    }
+
+    private static void accumulate(int[] offsets) {
+        for (int i = 1; i < offsets.length; ++i) {
+            offsets[i] += offsets[i - 1];
+        }
+    }
+
+    @Override
+    public Set<V> getVertices() {
+        return vertexSet;
+    }
+
+    @Override
+    public Set<E> getEdges() {
+        return edgeSet;
+    }
+
+    @Override
+    public Set<E> getIncidentEdges(V vertex) {
+        int index = getVertexIndex(vertex);
+        return (index < 0) ? Collections.emptySet() : new EdgeSet(incidentEdges, incidenceOffsets[index], incidenceOffsets[index + 1]);
+    }
+
+    @Override
+    public Set<E> getOutgoingEdges(V vertex) {
+        int index = getVertexIndex(vertex);
+        return (index < 0) ? Collections.emptySet() : new EdgeSet(outgoingEdges, outgoingOffsets[index], outgoingOffsets[index + 1]);
+    }
+
+    @Override
+    public Set<E> getIncomingEdges(V vertex) {
+        int index = getVertexIndex(vertex);
+        return (index < 0) ? Collections.emptySet() : new EdgeSet(incomingEdges, incomingOffsets[index], incomingOffsets[index + 1]);
+    }
+
+    @Override
+    public int getVertexCount() {
+        return vertexIndex.size();
+    }
+
+    @Override
+    public int getEdgeCount() {
+        return edges.length;
+    }
+
+    /**
+     * @param vertex
+     * @return index of given vertex, -1 if this graph does not contain the vertex
+     */
+    @Override
+    public int getVertexIndex(V vertex) {
+        return vertexIndex.getId(vertex);
+    }
+
+    /**
+     * @param edge
+     * @return index of given edge, -1 if this graph does not contain the edge
+     */
+    @Override
+    public int getEdgeIndex(E edge) {
+        int vertex = getVertexIndex(edge.getVertices().iterator().next());
+        if (vertex >= 0) {
+            for (int i = incidenceOffsets[vertex]; i < incidenceOffsets[vertex + 1]; ++i) {
+                if (edges[incidentEdges[i]].equals(edge)) {
+                    return incidentEdges[i];
+                }
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public V getVertex(int vertexIndex) {
+        return this.vertexIndex.getVertex(vertexIndex);
+    }
+
+    @Override
+    public E getEdge(int edgeIndex) {
+        return edges[edgeIndex];
+    }
+
+    /**
+     * @param edgeIndex
+     * @return index of the first vertex of given edge, the origin if the edge is directed.
+     */
+    @Override
+    public int getFirstVertexIndex(int edgeIndex) {
+        return firstVertices[edgeIndex];
+    }
+
+    /**
+     * @param edgeIndex
+     * @return index of the second vertex of given edge, the terminus if the edge is directed.
+     */
+    @Override
+    public int getSecondVertexIndex(int edgeIndex) {
+        return secondVertices[edgeIndex];
+    }
+
+    /**
+     * @param edgeIndex
+     * @param vertexIndex of a vertex incident on given edge
+     * @return index of the vertex that is connected to given vertex by given edge.
+     */
+    @Override
+    public int getAdjacentVertexIndex(int edgeIndex, int vertexIndex) {
+        return (firstVertices[edgeIndex] == vertexIndex) ? secondVertices[edgeIndex] : firstVertices[edgeIndex];
+    }
+
+    /**
+     * @param edgeIndex
+     * @return true if given edge is of type DirectedEdge
+     */
+    @Override
+    public boolean isDirected(int edgeIndex) {
+        return directed.get(edgeIndex);
+    }
+
+    /**
+     * @param vertexIndex
+     * @return number of edges incident on given vertex, where a loop is counted once.
+     */
+    @Override
+    public int getIncidenceCount(int vertexIndex) {
+        return incidenceOffsets[vertexIndex + 1] - incidenceOffsets[vertexIndex];
+    }
+
+    /**
+     * @param vertexIndex
+     * @param n ranging from 0 to the incidence count of given vertex
+     * @return index of the n-th edge incident on given vertex
+     */
+    @Override
+    public int getIncidentEdgeIndex(int vertexIndex, int n) {
+        return incidentEdges[incidenceOffsets[vertexIndex] + n];
+    }
+
+    @Override
+    public int getOutgoingCount(int vertexIndex) {
+        return outgoingOffsets[vertexIndex + 1] - outgoingOffsets[vertexIndex];
+    }
+
+    @Override
+    public int getOutgoingEdgeIndex(int vertexIndex, int n) {
+        return outgoingEdges[outgoingOffsets[vertexIndex] + n];
+    }
+
+    @Override
+    public int getIncomingCount(int vertexIndex) {
+        return incomingOffsets[vertexIndex + 1] - incomingOffsets[vertexIndex];
+    }
+
+    @Override
+    public int getIncomingEdgeIndex(int vertexIndex, int n) {
+        return incomingEdges[incomingOffsets[vertexIndex] + n];
+    }
+
+    private class VertexSet extends AbstractSet<V> {
+
+        @Override
+        public Iterator<V> iterator() {
+            return vertexIndex.getVertices().iterator();
+        }
+
+        @Override
+        public int size() {
+            return vertexIndex.size();
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public boolean contains(Object object) {
+            return vertexIndex.contains((V) object);
+        }
+
+    }
+
+    private class EdgeSet extends AbstractSet<E> {
+
+        EdgeSet(int[] edgeIndices, int from, int to) {
+            this.edgeIndices = edgeIndices;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        public Iterator<E> iterator() {
+            return new Iterator<>() {
+
+                @Override
+                public boolean hasNext() {
+                    return next < to;
+                }
+
+                @Override
+                public E next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    return edges[(edgeIndices == null) ? next++ : edgeIndices[next++]];
+                }
+
+                private int next = from;
+            };
+        }
+
+        @Override
+        public int size() {
+            return to - from;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public boolean contains(Object object) {
+            if (!(object instanceof Edge)) {
+                return false;
+            }
+            int index = getEdgeIndex((E) object);
+            if (index < 0) {
+                return false;
+            }
+            if (edgeIndices == null) {
+                return true;
+            }
+            for (int i = from; i < to; ++i) {
+                if (edgeIndices[i] == index) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private final int[] edgeIndices;
+        private final int from;
+        private final int to;
+    }
+
+    private final VertexIndex<V> vertexIndex = new VertexIndex<>();
+    private final E[] edges;
+    private final int[] firstVertices;
+    private final int[] secondVertices;
+    private final BitSet directed = new BitSet();
+    private final int[] incidenceOffsets;
+    private final int[] incidentEdges;
+    private final int[] outgoingOffsets;
+    private final int[] outgoingEdges;
+    private final int[] incomingOffsets;
+    private final int[] incomingEdges;
+    private final Set<V> vertexSet = Collections.unmodifiableSet(new VertexSet());
+    private final Set<E> edgeSet;
+
+}
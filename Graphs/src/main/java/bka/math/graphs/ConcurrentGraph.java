@@ -0,0 +1,135 @@
+/*
+** © Bart Kampers
+** This code may not be used for any purpose that harms humans (including
+** exploitation and discrimination), humanity, the environment or the
+** universe.
+*/
+
+package bka.math.graphs;
+
+import java.util.*;
+import java.util.concurrent.atomic.*;
+import java.util.function.*;
+
+/**
+ * Thread safe graph of given vertex type and edge type. Like MutableGraph it contains no duplicate edges or vertices.
+ * The content of this graph is an immutable PersistentGraph. Modifications create a new version that shares
+ * all unmodified structure with the previous one and publish it with compare-and-set, so writers never block readers or each other.
+ * Batch modifications are atomic.
+ * Taking a snapshot takes constant time. A snapshot never changes, so trail finders can search it while writers continue to modify this graph.
+ * Getters of this graph return views of the latest snapshot.
+ * @see bka.math.graphs.MutableGraph
+ * @see bka.math.graphs.PersistentGraph
+ * @param <V> Vertex type
+ * @param <E> Edge of Vertex type
+ */
+public class ConcurrentGraph<V, E extends Edge<V>> implements GraphBase<V, E> {
+
+    public ConcurrentGraph() {
+    }
+
+    public ConcurrentGraph(GraphBase<V, ? extends E> graph) {
+        this(graph.getVertices(), graph.getEdges());
+    }
+
+    public ConcurrentGraph(Collection<V> vertices, Collection<? extends E> edges) {
+        this(edges);
+        addVertices(vertices);
+    }
+
+    public ConcurrentGraph(Collection<? extends E> edges) {
+        addEdges(edges);
+    }
+
+    /**
+     * @return immutable version holding the current content of this graph
+     */
+    public PersistentGraph<V, E> snapshot() {
+        return state.get();
+    }
+
+    /**
+     * Remove all edges and vertices.
+     */
+    public final void clear() {
+        state.set(new PersistentGraph<>());
+    }
+
+    public final boolean addVertices(Collection<V> vertices) {
+        return update(graph -> graph.withVertices(vertices));
+    }
+
+    public final boolean addVertex(V vertex) {
+        return update(graph -> graph.withVertex(vertex));
+    }
+
+    public final boolean addEdges(Collection<? extends E> edges) {
+        return update(graph -> graph.withEdges(edges));
+    }
+
+    public final boolean addEdge(E edge) {
+        return update(graph -> graph.withEdge(edge));
+    }
+
+    public final boolean removeVertices(Collection<V> vertices) {
+        return update(graph -> graph.withoutVertices(vertices));
+    }
+
+    public final boolean removeVertex(V vertex) {
+        return update(graph -> graph.withoutVertex(vertex));
+    }
+
+    public final boolean removeEdges(Collection<E> edges) {
+        return update(graph -> graph.withoutEdges(edges));
+    }
+
+    public final boolean removeEdge(E edge) {
+        return update(graph -> graph.withoutEdge(edge));
+    }
+
+    @Override
+    public final Set<V> getVertices() {
+        return state.get().getVertices();
+    }
+
+    @Override
+    public final Set<E> getEdges() {
+        return state.get().getEdges();
+    }
+
+    @Override
+    public final Set<E> getIncidentEdges(V vertex) {
+        return state.get().getIncidentEdges(vertex);
+    }
+
+    @Override
+    public final Set<E> getOutgoingEdges(V vertex) {
+        return state.get().getOutgoingEdges(vertex);
+    }
+
+    @Override
+    public final Set<E> getIncomingEdges(V vertex) {
+        return state.get().getIncomingEdges(vertex);
+    }
+
+    /**
+     * Apply given modification to the current snapshot and publish the result. Retries if another thread published first.
+     * The modification must be free of side effects, since it may be applied more than once.
+     * @return true if the modification changed the snapshot
+     */
+    private boolean update(UnaryOperator<PersistentGraph<V, E>> modification) {
+        while (true) {
+            PersistentGraph<V, E> current = state.get();
+            PersistentGraph<V, E> next = modification.apply(current);
+            if (next == current) {
+                return false;
+            }
+            if (state.compareAndSet(current, next)) {
+                return true;
+            }
+        }
+    }
+
+    private final AtomicReference<PersistentGraph<V, E>> state = new AtomicReference<>(new PersistentGraph<>());
+
+}
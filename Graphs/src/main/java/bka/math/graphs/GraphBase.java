@@ -7,6 +7,7 @@
 package bka.math.graphs;
 
 import java.util.*;
+import java.util.stream.*;
 
 /**
  * Root interface for graphs of given vertex type and edge type.
@@ -26,4 +27,37 @@ public interface GraphBase<V, E extends Edge<V>> {
      */
     Set<E> getEdges();
 
+    /**
+     * Implementations that keep an incidence index should override this method; this default implementation scans all edges.
+     * @param vertex
+     * @return all edges in this graph that are incident on given vertex, empty if this graph does not contain the vertex.
+     */
+    default Set<E> getIncidentEdges(V vertex) {
+        return getEdges().stream()
+            .filter(edge -> edge.getVertices().contains(vertex))
+            .collect(Collectors.toUnmodifiableSet());
+    }
+
+    /**
+     * Implementations that keep an incidence index should override this method; this default implementation scans all edges.
+     * @param vertex
+     * @return all edges of type DirectedEdge in this graph that have given vertex as origin, empty if there are none.
+     */
+    default Set<E> getOutgoingEdges(V vertex) {
+        return getEdges().stream()
+            .filter(edge -> edge instanceof DirectedEdge<V> directed && vertex.equals(directed.getOrigin()))
+            .collect(Collectors.toUnmodifiableSet());
+    }
+
+    /**
+     * Implementations that keep an incidence index should override this method; this default implementation scans all edges.
+     * @param vertex
+     * @return all edges of type DirectedEdge in this graph that have given vertex as terminus, empty if there are none.
+     */
+    default Set<E> getIncomingEdges(V vertex) {
+        return getEdges().stream()
+            .filter(edge -> edge instanceof DirectedEdge<V> directed && vertex.equals(directed.getTerminus()))
+            .collect(Collectors.toUnmodifiableSet());
+    }
+
 }
@@ -0,0 +1,51 @@
+/*
+** © Bart Kampers
+** This code may not be used for any purpose that harms humans (including
+** exploitation and discrimination), humanity, the environment or the
+** universe.
+*/
+
+package bka.math.graphs;
+
+/**
+ * Receives notifications of changes to a MutableGraph. Notifications are sent after the graph has changed.
+ * All methods do nothing by default.
+ * @see bka.math.graphs.MutableGraph#addListener(bka.math.graphs.GraphListener)
+ * @param <V> Vertex type
+ * @param <E> Edge of Vertex type
+ */
+public interface GraphListener<V, E extends Edge<V>> {
+
+    /**
+     * @param vertex that has been added
+     */
+    default void vertexAdded(V vertex) {
+    }
+
+    /**
+     * Sent after the vertices of the edge have been added.
+     * @param edge that has been added
+     */
+    default void edgeAdded(E edge) {
+    }
+
+    /**
+     * Sent after the edges incident on the vertex have been removed.
+     * @param vertex that has been removed
+     */
+    default void vertexRemoved(V vertex) {
+    }
+
+    /**
+     * @param edge that has been removed
+     */
+    default void edgeRemoved(E edge) {
+    }
+
+    /**
+     * Sent when all vertices and edges have been removed at once.
+     */
+    default void cleared() {
+    }
+
+}
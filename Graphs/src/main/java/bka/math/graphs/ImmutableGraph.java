@@ -43,7 +43,7 @@ public class ImmutableGraph<V, E extends Edge<V>> implements GraphBase<V, E> {
      * @param edges
      */
     public ImmutableGraph(Collection<V> vertices, Collection<E> edges) {
-        MutableGraph<V, E> graph = new MutableGraph<>(vertices, edges);
+        graph = new MutableGraph<>(vertices, edges);
         this.vertices = graph.getVertices();
         this.edges = graph.getEdges();
     }
@@ -58,6 +58,22 @@ public class ImmutableGraph<V, E extends Edge<V>> implements GraphBase<V, E> {
         return edges;
     }
 
+    @Override
+    final public Set<E> getIncidentEdges(V vertex) {
+        return graph.getIncidentEdges(vertex);
+    }
+
+    @Override
+    final public Set<E> getOutgoingEdges(V vertex) {
+        return graph.getOutgoingEdges(vertex);
+    }
+
+    @Override
+    final public Set<E> getIncomingEdges(V vertex) {
+        return graph.getIncomingEdges(vertex);
+    }
+
+    private final MutableGraph<V, E> graph;
     private final Set<V> vertices;
     private final Set<E> edges;
 
@@ -0,0 +1,113 @@
+/*
+** © Bart Kampers
+** This code may not be used for any purpose that harms humans (including
+** exploitation and discrimination), humanity, the environment or the
+** universe.
+*/
+package bka.math.graphs;
+
+/**
+ * Graph that maps its vertices and edges to dense indices, ranging from 0 to the number of vertices or edges,
+ * and offers its adjacency by index. Algorithms that work on these indices can use primitive arrays.
+ * @see bka.math.graphs.CompactGraph
+ * @see bka.math.graphs.io.MappedGraph
+ * @param <V> Vertex type
+ * @param <E> Edge of Vertex type
+ */
+public interface IndexedGraph<V, E extends Edge<V>> extends GraphBase<V, E> {
+
+    /**
+     * @param <V> Vertex type
+     * @param <E> Edge of Vertex type
+     * @param graph
+     * @return given graph if it is indexed, a compact copy of given graph otherwise
+     */
+    static <V, E extends Edge<V>> IndexedGraph<V, E> of(GraphBase<V, E> graph) {
+        return (graph instanceof IndexedGraph<V, E> indexedGraph) ? indexedGraph : new CompactGraph<>(graph);
+    }
+
+    int getVertexCount();
+
+    int getEdgeCount();
+
+    /**
+     * @param vertex
+     * @return index of given vertex, -1 if this graph does not contain the vertex
+     */
+    int getVertexIndex(V vertex);
+
+    /**
+     * @param edge
+     * @return index of given edge, -1 if this graph does not contain the edge
+     */
+    int getEdgeIndex(E edge);
+
+    V getVertex(int vertexIndex);
+
+    E getEdge(int edgeIndex);
+
+    /**
+     * @param edgeIndex
+     * @return index of the first vertex of given edge, the origin if the edge is directed.
+     */
+    int getFirstVertexIndex(int edgeIndex);
+
+    /**
+     * @param edgeIndex
+     * @return index of the second vertex of given edge, the terminus if the edge is directed.
+     */
+    int getSecondVertexIndex(int edgeIndex);
+
+    /**
+     * @param edgeIndex
+     * @param vertexIndex of a vertex incident on given edge
+     * @return index of the vertex that is connected to given vertex by given edge.
+     */
+    int getAdjacentVertexIndex(int edgeIndex, int vertexIndex);
+
+    /**
+     * @param edgeIndex
+     * @return true if given edge is directed
+     */
+    boolean isDirected(int edgeIndex);
+
+    /**
+     * @param vertexIndex
+     * @return number of edges incident on given vertex, where a loop is counted once.
+     */
+    int getIncidenceCount(int vertexIndex);
+
+    /**
+     * @param vertexIndex
+     * @param n ranging from 0 to the incidence count of given vertex
+     * @return index of the n-th edge incident on given vertex
+     */
+    int getIncidentEdgeIndex(int vertexIndex, int n);
+
+    /**
+     * @param vertexIndex
+     * @return number of directed edges that have given vertex as origin
+     */
+    int getOutgoingCount(int vertexIndex);
+
+    /**
+     * @param vertexIndex
+     * @param n ranging from 0 to the outgoing count of given vertex
+     * @return index of the n-th directed edge that has given vertex as origin
+     */
+    int getOutgoingEdgeIndex(int vertexIndex, int n);
+
+    /**
+     * @param vertexIndex
+     * @return number of directed edges that have given vertex as terminus
+     */
+    int getIncomingCount(int vertexIndex);
+
+    /**
+     * @param vertexIndex
+     * @param n ranging from 0 to the incoming count of given vertex
+     * @return index of the n-th directed edge that has given vertex as terminus
+     */
+    int getIncomingEdgeIndex(int vertexIndex, int n);
+
+}
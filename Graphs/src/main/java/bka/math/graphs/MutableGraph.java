@@ -31,27 +31,51 @@ public class MutableGraph<V, E extends Edge<V>> implements GraphBase<V, E> {
 
     public MutableGraph(Collection<V> vertices, Collection<? extends E> edges) {
         this(edges);
-        this.vertices.addAll(vertices);
+        addVertices(vertices);
     }
 
     public MutableGraph(Collection<? extends E> edges) {
         addEdges(edges);
     }
 
+    /**
+     * Register a listener to be notified of every change to this graph.
+     * @param listener
+     */
+    public final void addListener(GraphListener<V, ? super E> listener) {
+        listeners.add(Objects.requireNonNull(listener));
+    }
+
+    public final void removeListener(GraphListener<V, ? super E> listener) {
+        listeners.remove(listener);
+    }
+
     /**
      * Remove all edges and vertices.
      */
     public final void clear() {
         edges.clear();
-        vertices.clear();
+        incidentEdges.clear();
+        outgoingEdges.clear();
+        incomingEdges.clear();
+        listeners.forEach(GraphListener::cleared);
     }
 
     public final boolean addVertices(Collection<V> vertices) {
-        return this.vertices.addAll(vertices);
+        boolean added = false;
+        for (V vertex : vertices) {
+            added |= addVertex(vertex);
+        }
+        return added;
     }
 
     public final boolean addVertex(V vertex) {
-        return vertices.add(vertex);
+        if (incidentEdges.containsKey(vertex)) {
+            return false;
+        }
+        incidentEdges.put(vertex, new HashSet<>());
+        listeners.forEach(listener -> listener.vertexAdded(vertex));
+        return true;
     }
 
     public final boolean addEdges(Collection<? extends E> edges) {
@@ -63,8 +87,17 @@ public class MutableGraph<V, E extends Edge<V>> implements GraphBase<V, E> {
     }
 
     public final boolean addEdge(E edge) {
-        vertices.addAll(edge.getVertices());
-        return edges.add(edge);
+        edge.getVertices().forEach(this::addVertex);
+        if (!edges.add(edge)) {
+            return false;
+        }
+        edge.getVertices().forEach(vertex -> incidentEdges.get(vertex).add(edge));
+        if (edge instanceof DirectedEdge<V> directed) {
+            outgoingEdges.computeIfAbsent(directed.getOrigin(), origin -> new HashSet<>()).add(edge);
+            incomingEdges.computeIfAbsent(directed.getTerminus(), terminus -> new HashSet<>()).add(edge);
+        }
+        listeners.forEach(listener -> listener.edgeAdded(edge));
+        return true;
     }
 
     public final boolean removeVertices(Collection<V> vertices) {
@@ -76,24 +109,39 @@ public class MutableGraph<V, E extends Edge<V>> implements GraphBase<V, E> {
     }
 
     public final boolean removeVertex(V vertex) {
-        boolean removed = vertices.remove(vertex);
-        if (removed) {
-            edges.removeIf(edge -> edge.getVertices().contains(vertex));
+        Set<E> incident = incidentEdges.remove(vertex);
+        if (incident == null) {
+            return false;
         }
-        return removed;
+        incident.forEach(edge -> {
+            edges.remove(edge);
+            detach(edge);
+            listeners.forEach(listener -> listener.edgeRemoved(edge));
+        });
+        listeners.forEach(listener -> listener.vertexRemoved(vertex));
+        return true;
     }
 
     public final boolean removeEdges(Collection<E> edges) {
-        return this.edges.removeAll(edges);
+        boolean removed = false;
+        for (E edge : edges) {
+            removed |= removeEdge(edge);
+        }
+        return removed;
     }
 
     public final boolean removeEdge(E edge) {
-        return edges.remove(edge);
+        if (!edges.remove(edge)) {
+            return false;
+        }
+        detach(edge);
+        listeners.forEach(listener -> listener.edgeRemoved(edge));
+        return true;
     }
 
     @Override
     public final Set<V> getVertices() {
-        return Collections.unmodifiableSet(vertices);
+        return Collections.unmodifiableSet(incidentEdges.keySet());
     }
 
     @Override
@@ -101,7 +149,62 @@ public class MutableGraph<V, E extends Edge<V>> implements GraphBase<V, E> {
         return Collections.unmodifiableSet(edges);
     }
 
-    private final Set<V> vertices = new HashSet<>();
+    /**
+     * @param vertex
+     * @return all edges incident on given vertex, empty if this graph does not contain the vertex. Takes constant time.
+     */
+    @Override
+    public final Set<E> getIncidentEdges(V vertex) {
+        return unmodifiableSet(incidentEdges, vertex);
+    }
+
+    /**
+     * @param vertex
+     * @return all edges of type DirectedEdge that have given vertex as origin. Takes constant time.
+     */
+    @Override
+    public final Set<E> getOutgoingEdges(V vertex) {
+        return unmodifiableSet(outgoingEdges, vertex);
+    }
+
+    /**
+     * @param vertex
+     * @return all edges of type DirectedEdge that have given vertex as terminus. Takes constant time.
+     */
+    @Override
+    public final Set<E> getIncomingEdges(V vertex) {
+        return unmodifiableSet(incomingEdges, vertex);
+    }
+
+    private Set<E> unmodifiableSet(Map<V, Set<E>> index, V vertex) {
+        Set<E> set = index.get(vertex);
+        return (set == null) ? Collections.emptySet() : Collections.unmodifiableSet(set);
+    }
+
+    private void detach(E edge) {
+        edge.getVertices().forEach(vertex -> {
+            Set<E> incident = incidentEdges.get(vertex);
+            if (incident != null) {
+                incident.remove(edge);
+            }
+        });
+        if (edge instanceof DirectedEdge<V> directed) {
+            detach(outgoingEdges, directed.getOrigin(), edge);
+            detach(incomingEdges, directed.getTerminus(), edge);
+        }
+    }
+
+    private void detach(Map<V, Set<E>> index, V vertex, E edge) {
+        index.computeIfPresent(vertex, (key, set) -> (set.remove(edge) && set.isEmpty()) ? null : set);
+    }
+
+    /**
+     * Maps each vertex to its incident edges. The key set is the vertex set of this graph.
+     */
+    private final Map<V, Set<E>> incidentEdges = new HashMap<>();
+    private final Map<V, Set<E>> outgoingEdges = new HashMap<>();
+    private final Map<V, Set<E>> incomingEdges = new HashMap<>();
     private final Set<E> edges = new HashSet<>();
+    private final List<GraphListener<V, ? super E>> listeners = new ArrayList<>();
 
 }
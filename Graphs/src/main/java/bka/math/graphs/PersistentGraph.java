@@ -0,0 +1,202 @@
+/*
+** © Bart Kampers
+** This code may not be used for any purpose that harms humans (including
+** exploitation and discrimination), humanity, the environment or the
+** universe.
+*/
+package bka.math.graphs;
+
+import java.util.*;
+
+/**
+ * Immutable graph of given vertex type and edge type. Like MutableGraph it contains no duplicate edges or vertices.
+ * Instead of modifying the graph, the with and without methods return a new version of the graph.
+ * Versions share all unmodified structure, stored in hash array mapped tries, so deriving a version takes time and space
+ * proportional to the logarithm of the graph size instead of copying the graph.
+ * @see bka.math.graphs.ImmutableGraph
+ * @see bka.math.graphs.PersistentMap
+ * @param <V> Vertex type
+ * @param <E> Edge of Vertex type
+ */
+public final class PersistentGraph<V, E extends Edge<V>> implements GraphBase<V, E> {
+
+    /**
+     * Create an empty graph.
+     */
+    public PersistentGraph() {
+        this(new PersistentMap<>(), new PersistentMap<>(), new PersistentMap<>(), new PersistentSet<>());
+    }
+
+    public PersistentGraph(GraphBase<V, ? extends E> graph) {
+        this(graph.getVertices(), graph.getEdges());
+    }
+
+    public PersistentGraph(Collection<V> vertices, Collection<? extends E> edges) {
+        this(new PersistentGraph<V, E>().withEdges(edges).withVertices(vertices));
+    }
+
+    public PersistentGraph(Collection<? extends E> edges) {
+        this(new PersistentGraph<V, E>().withEdges(edges));
+    }
+
+    private PersistentGraph(PersistentGraph<V, E> other) {
+        this(other.incidentEdges, other.outgoingEdges, other.incomingEdges, other.edges);
+    }
+
+    private PersistentGraph(PersistentMap<V, PersistentSet<E>> incidentEdges, PersistentMap<V, PersistentSet<E>> outgoingEdges, PersistentMap<V, PersistentSet<E>> incomingEdges, PersistentSet<E> edges) {
+        this.incidentEdges = incidentEdges;
+        this.outgoingEdges = outgoingEdges;
+        this.incomingEdges = incomingEdges;
+        this.edges = edges;
+    }
+
+    /**
+     * @param vertex
+     * @return version of this graph that contains given vertex, this graph if it already does
+     */
+    public PersistentGraph<V, E> withVertex(V vertex) {
+        if (incidentEdges.containsKey(vertex)) {
+            return this;
+        }
+        return new PersistentGraph<>(incidentEdges.with(vertex, new PersistentSet<>()), outgoingEdges, incomingEdges, edges);
+    }
+
+    public PersistentGraph<V, E> withVertices(Collection<V> vertices) {
+        PersistentGraph<V, E> graph = this;
+        for (V vertex : vertices) {
+            graph = graph.withVertex(vertex);
+        }
+        return graph;
+    }
+
+    public PersistentGraph<V, E> withEdges(Collection<? extends E> edges) {
+        PersistentGraph<V, E> graph = this;
+        for (E edge : edges) {
+            graph = graph.withEdge(edge);
+        }
+        return graph;
+    }
+
+    /**
+     * Adds the vertices of given edge as well.
+     * @param edge
+     * @return version of this graph that contains given edge, this graph if it already does
+     */
+    public PersistentGraph<V, E> withEdge(E edge) {
+        if (edges.contains(edge)) {
+            return this;
+        }
+        PersistentMap<V, PersistentSet<E>> newIncidentEdges = incidentEdges;
+        for (V vertex : edge.getVertices()) {
+            newIncidentEdges = attach(newIncidentEdges, vertex, edge);
+        }
+        PersistentMap<V, PersistentSet<E>> newOutgoingEdges = outgoingEdges;
+        PersistentMap<V, PersistentSet<E>> newIncomingEdges = incomingEdges;
+        if (edge instanceof DirectedEdge<V> directed) {
+            newOutgoingEdges = attach(outgoingEdges, directed.getOrigin(), edge);
+            newIncomingEdges = attach(incomingEdges, directed.getTerminus(), edge);
+        }
+        return new PersistentGraph<>(newIncidentEdges, newOutgoingEdges, newIncomingEdges, edges.with(edge));
+    }
+
+    /**
+     * Removes the edges incident on given vertex as well. Takes time proportional to the degree of the vertex times the logarithm of the graph size.
+     * @param vertex
+     * @return version of this graph without given vertex, this graph if it does not contain the vertex
+     */
+    public PersistentGraph<V, E> withoutVertex(V vertex) {
+        PersistentSet<E> incident = incidentEdges.get(vertex);
+        if (incident == null) {
+            return this;
+        }
+        PersistentGraph<V, E> graph = this;
+        for (E edge : incident) {
+            graph = graph.withoutEdge(edge);
+        }
+        return new PersistentGraph<>(graph.incidentEdges.without(vertex), graph.outgoingEdges, graph.incomingEdges, graph.edges);
+    }
+
+    public PersistentGraph<V, E> withoutVertices(Collection<V> vertices) {
+        PersistentGraph<V, E> graph = this;
+        for (V vertex : vertices) {
+            graph = graph.withoutVertex(vertex);
+        }
+        return graph;
+    }
+
+    public PersistentGraph<V, E> withoutEdges(Collection<E> edges) {
+        PersistentGraph<V, E> graph = this;
+        for (E edge : edges) {
+            graph = graph.withoutEdge(edge);
+        }
+        return graph;
+    }
+
+    /**
+     * Keeps the vertices of given edge.
+     * @param edge
+     * @return version of this graph without given edge, this graph if it does not contain the edge
+     */
+    public PersistentGraph<V, E> withoutEdge(E edge) {
+        if (!edges.contains(edge)) {
+            return this;
+        }
+        PersistentMap<V, PersistentSet<E>> newIncidentEdges = incidentEdges;
+        for (V vertex : edge.getVertices()) {
+            PersistentSet<E> incident = newIncidentEdges.get(vertex);
+            newIncidentEdges = newIncidentEdges.with(vertex, incident.without(edge));
+        }
+        PersistentMap<V, PersistentSet<E>> newOutgoingEdges = outgoingEdges;
+        PersistentMap<V, PersistentSet<E>> newIncomingEdges = incomingEdges;
+        if (edge instanceof DirectedEdge<V> directed) {
+            newOutgoingEdges = detach(outgoingEdges, directed.getOrigin(), edge);
+            newIncomingEdges = detach(incomingEdges, directed.getTerminus(), edge);
+        }
+        return new PersistentGraph<>(newIncidentEdges, newOutgoingEdges, newIncomingEdges, edges.without(edge));
+    }
+
+    private PersistentMap<V, PersistentSet<E>> attach(PersistentMap<V, PersistentSet<E>> index, V vertex, E edge) {
+        return index.with(vertex, index.getOrDefault(vertex, new PersistentSet<>()).with(edge));
+    }
+
+    private PersistentMap<V, PersistentSet<E>> detach(PersistentMap<V, PersistentSet<E>> index, V vertex, E edge) {
+        PersistentSet<E> set = index.get(vertex).without(edge);
+        return (set.isEmpty()) ? index.without(vertex) : index.with(vertex, set);
+    }
+
+    @Override
+    public Set<V> getVertices() {
+        return Collections.unmodifiableSet(incidentEdges.asMap().keySet());
+    }
+
+    @Override
+    public Set<E> getEdges() {
+        return edges.asSet();
+    }
+
+    @Override
+    public Set<E> getIncidentEdges(V vertex) {
+        return asSet(incidentEdges, vertex);
+    }
+
+    @Override
+    public Set<E> getOutgoingEdges(V vertex) {
+        return asSet(outgoingEdges, vertex);
+    }
+
+    @Override
+    public Set<E> getIncomingEdges(V vertex) {
+        return asSet(incomingEdges, vertex);
+    }
+
+    private Set<E> asSet(PersistentMap<V, PersistentSet<E>> index, V vertex) {
+        PersistentSet<E> set = index.get(vertex);
+        return (set == null) ? Collections.emptySet() : set.asSet();
+    }
+
+    private final PersistentMap<V, PersistentSet<E>> incidentEdges;
+    private final PersistentMap<V, PersistentSet<E>> outgoingEdges;
+    private final PersistentMap<V, PersistentSet<E>> incomingEdges;
+    private final PersistentSet<E> edges;
+
+}
@@ -0,0 +1,425 @@
+/*
+** © Bart Kampers
+** This code may not be used for any purpose that harms humans (including
+** exploitation and discrimination), humanity, the environment or the
+** universe.
+*/
+
+package bka.math.graphs;
+
+import java.util.*;
+
+/**
+ * Immutable map implemented as hash array mapped trie. Methods that modify the map return a new map that shares
+ * all unmodified nodes with this map, so modifications take time and space proportional to the depth of the trie,
+ * which is logarithmic in the size of the map. Keys must not be null.
+ * @see <a href="https://en.wikipedia.org/wiki/Hash_array_mapped_trie">Hash array mapped trie on Wikipedia</a>
+ * @param <K> key type
+ * @param <V> value type
+ */
+public final class PersistentMap<K, V> implements Iterable<Map.Entry<K, V>> {
+
+    /**
+     * Create an empty map.
+     */
+    public PersistentMap() {
+        this(null, 0);
+    }
+
+    private PersistentMap(Node root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public boolean containsKey(Object key) {
+        return root != null && root.find(hash(key), 0, key) != ABSENT;
+    }
+
+    /**
+     * @param key
+     * @return value mapped to given key, null if this map does not contain the key
+     */
+    public V get(Object key) {
+        return getOrDefault(key, null);
+    }
+
+    @SuppressWarnings("unchecked")
+    public V getOrDefault(Object key, V defaultValue) {
+        if (root == null) {
+            return defaultValue;
+        }
+        Object value = root.find(hash(key), 0, key);
+        return (value == ABSENT) ? defaultValue : (V) value;
+    }
+
+    /**
+     * @param key
+     * @param value
+     * @return map that maps given key to given value, this map if it already did
+     */
+    public PersistentMap<K, V> with(K key, V value) {
+        Objects.requireNonNull(key);
+        boolean[] added = new boolean[1];
+        Node newRoot = (root == null)
+            ? new BitmapNode(0, new Object[0]).put(hash(key), 0, key, value, added)
+            : root.put(hash(key), 0, key, value, added);
+        return (newRoot == root) ? this : new PersistentMap<>(newRoot, (added[0]) ? size + 1 : size);
+    }
+
+    /**
+     * @param key
+     * @return map without given key, this map if it did not contain the key
+     */
+    public PersistentMap<K, V> without(Object key) {
+        if (root == null) {
+            return this;
+        }
+        Node newRoot = root.remove(hash(key), 0, key);
+        return (newRoot == root) ? this : new PersistentMap<>(newRoot, size - 1);
+    }
+
+    /**
+     * @return unmodifiable map view of this map
+     */
+    public Map<K, V> asMap() {
+        return new AbstractMap<>() {
+
+            @Override
+            public Set<Map.Entry<K, V>> entrySet() {
+                return new AbstractSet<>() {
+
+                    @Override
+                    public Iterator<Map.Entry<K, V>> iterator() {
+                        return PersistentMap.this.iterator();
+                    }
+
+                    @Override
+                    public int size() {
+                        return size;
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+
+            @Override
+            public boolean containsKey(Object key) {
+                return PersistentMap.this.containsKey(key);
+            }
+
+            @Override
+            public V get(Object key) {
+                return PersistentMap.this.get(key);
+            }
+
+            @Override
+            public Set<K> keySet() {
+                return new AbstractSet<>() {
+
+                    @Override
+                    public Iterator<K> iterator() {
+                        Iterator<Map.Entry<K, V>> entries = PersistentMap.this.iterator();
+                        return new Iterator<>() {
+
+                            @Override
+                            public boolean hasNext() {
+                                return entries.hasNext();
+                            }
+
+                            @Override
+                            public K next() {
+                                return entries.next().getKey();
+                            }
+                        };
+                    }
+
+                    @Override
+                    public int size() {
+                        return size;
+                    }
+
+                    @Override
+                    public boolean contains(Object key) {
+                        return PersistentMap.this.containsKey(key);
+                    }
+                };
+            }
+        };
+    }
+
+    @Override
+    public Iterator<Map.Entry<K, V>> iterator() {
+        return new EntryIterator();
+    }
+
+    @Override
+    public String toString() {
+        return asMap().toString();
+    }
+
+    private static int hash(Object key) {
+        int hash = key.hashCode();
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * Trie node. Contents hold key value pairs. A null key denotes that the value is a child node.
+     */
+    private abstract static class Node {
+
+        Node(Object[] contents) {
+            this.contents = contents;
+        }
+
+        abstract Object find(int hash, int shift, Object key);
+
+        abstract Node put(int hash, int shift, Object key, Object value, boolean[] added);
+
+        /**
+         * @return node without given key, this node if it does not contain the key, null if the node becomes empty
+         */
+        abstract Node remove(int hash, int shift, Object key);
+
+        final Object[] contents;
+    }
+
+    private static final class BitmapNode extends Node {
+
+        BitmapNode(int bitmap, Object[] contents) {
+            super(contents);
+            this.bitmap = bitmap;
+        }
+
+        @Override
+        Object find(int hash, int shift, Object key) {
+            int bit = bit(hash, shift);
+            if ((bitmap & bit) == 0) {
+                return ABSENT;
+            }
+            int i = index(bit);
+            Object storedKey = contents[i];
+            if (storedKey == null) {
+                return ((Node) contents[i + 1]).find(hash, shift + BITS, key);
+            }
+            return (storedKey.equals(key)) ? contents[i + 1] : ABSENT;
+        }
+
+        @Override
+        Node put(int hash, int shift, Object key, Object value, boolean[] added) {
+            int bit = bit(hash, shift);
+            int i = index(bit);
+            if ((bitmap & bit) == 0) {
+                Object[] newContents = new Object[contents.length + 2];
+                System.arraycopy(contents, 0, newContents, 0, i);
+                newContents[i] = key;
+                newContents[i + 1] = value;
+                System.arraycopy(contents, i, newContents, i + 2, contents.length - i);
+                added[0] = true;
+                return new BitmapNode(bitmap | bit, newContents);
+            }
+            Object storedKey = contents[i];
+            Object storedValue = contents[i + 1];
+            if (storedKey == null) {
+                Node child = (Node) storedValue;
+                Node newChild = child.put(hash, shift + BITS, key, value, added);
+                return (newChild == child) ? this : replace(i, null, newChild);
+            }
+            if (storedKey.equals(key)) {
+                return (storedValue == value) ? this : replace(i, key, value);
+            }
+            added[0] = true;
+            return replace(i, null, createNode(shift + BITS, storedKey, storedValue, hash, key, value));
+        }
+
+        @Override
+        Node remove(int hash, int shift, Object key) {
+            int bit = bit(hash, shift);
+            if ((bitmap & bit) == 0) {
+                return this;
+            }
+            int i = index(bit);
+            Object storedKey = contents[i];
+            if (storedKey == null) {
+                Node child = (Node) contents[i + 1];
+                Node newChild = child.remove(hash, shift + BITS, key);
+                if (newChild == child) {
+                    return this;
+                }
+                return (newChild == null) ? removeSlot(bit, i) : replace(i, null, newChild);
+            }
+            return (storedKey.equals(key)) ? removeSlot(bit, i) : this;
+        }
+
+        private Node replace(int i, Object key, Object value) {
+            Object[] newContents = contents.clone();
+            newContents[i] = key;
+            newContents[i + 1] = value;
+            return new BitmapNode(bitmap, newContents);
+        }
+
+        private Node removeSlot(int bit, int i) {
+            if (bitmap == bit) {
+                return null;
+            }
+            Object[] newContents = new Object[contents.length - 2];
+            System.arraycopy(contents, 0, newContents, 0, i);
+            System.arraycopy(contents, i + 2, newContents, i, contents.length - i - 2);
+            return new BitmapNode(bitmap & ~bit, newContents);
+        }
+
+        private int index(int bit) {
+            return 2 * Integer.bitCount(bitmap & (bit - 1));
+        }
+
+        private static int bit(int hash, int shift) {
+            return 1 << ((hash >>> shift) & MASK);
+        }
+
+        private final int bitmap;
+    }
+
+    /**
+     * Holds keys of which all hash bits are equal.
+     */
+    private static final class CollisionNode extends Node {
+
+        CollisionNode(Object[] contents) {
+            super(contents);
+        }
+
+        @Override
+        Object find(int hash, int shift, Object key) {
+            int i = indexOf(key);
+            return (i < 0) ? ABSENT : contents[i + 1];
+        }
+
+        @Override
+        Node put(int hash, int shift, Object key, Object value, boolean[] added) {
+            int i = indexOf(key);
+            if (i >= 0) {
+                if (contents[i + 1] == value) {
+                    return this;
+                }
+                Object[] newContents = contents.clone();
+                newContents[i + 1] = value;
+                return new CollisionNode(newContents);
+            }
+            Object[] newContents = Arrays.copyOf(contents, contents.length + 2);
+            newContents[contents.length] = key;
+            newContents[contents.length + 1] = value;
+            added[0] = true;
+            return new CollisionNode(newContents);
+        }
+
+        @Override
+        Node remove(int hash, int shift, Object key) {
+            int i = indexOf(key);
+            if (i < 0) {
+                return this;
+            }
+            if (contents.length == 2) {
+                return null;
+            }
+            Object[] newContents = new Object[contents.length - 2];
+            System.arraycopy(contents, 0, newContents, 0, i);
+            System.arraycopy(contents, i + 2, newContents, i, contents.length - i - 2);
+            return new CollisionNode(newContents);
+        }
+
+        private int indexOf(Object key) {
+            for (int i = 0; i < contents.length; i += 2) {
+                if (contents[i].equals(key)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+
+    private static Node createNode(int shift, Object key1, Object value1, int hash2, Object key2, Object value2) {
+        if (shift >= Integer.SIZE) {
+            return new CollisionNode(new Object[] { key1, value1, key2, value2 });
+        }
+        boolean[] added = new boolean[1];
+        return new BitmapNode(0, new Object[0])
+            .put(hash(key1), shift, key1, value1, added)
+            .put(hash2, shift, key2, value2, added);
+    }
+
+    private class EntryIterator implements Iterator<Map.Entry<K, V>> {
+
+        EntryIterator() {
+            if (root != null) {
+                nodes[0] = root.contents;
+                depth = 0;
+            }
+            advance();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return depth >= 0;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Map.Entry<K, V> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Object[] contents = nodes[depth];
+            int i = positions[depth];
+            positions[depth] += 2;
+            Map.Entry<K, V> entry = new AbstractMap.SimpleImmutableEntry<>((K) contents[i], (V) contents[i + 1]);
+            advance();
+            return entry;
+        }
+
+        /**
+         * Move to the next key value pair, descending into child nodes and ascending from exhausted nodes.
+         */
+        private void advance() {
+            while (depth >= 0) {
+                Object[] contents = nodes[depth];
+                int i = positions[depth];
+                if (i >= contents.length) {
+                    positions[depth] = 0;
+                    depth--;
+                }
+                else if (contents[i] == null) {
+                    positions[depth] += 2;
+                    depth++;
+                    nodes[depth] = ((Node) contents[i + 1]).contents;
+                    positions[depth] = 0;
+                }
+                else {
+                    return;
+                }
+            }
+        }
+
+        private final Object[][] nodes = new Object[MAX_DEPTH][];
+        private final int[] positions = new int[MAX_DEPTH];
+        private int depth = -1;
+    }
+
+    private final Node root;
+    private final int size;
+
+    private static final Object ABSENT = new Object();
+    private static final int BITS = 5;
+    private static final int MASK = (1 << BITS) - 1;
+    private static final int MAX_DEPTH = Integer.SIZE / BITS + 2;
+
+}
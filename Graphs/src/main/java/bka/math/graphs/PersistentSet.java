@@ -0,0 +1,80 @@
+/*
+** © Bart Kampers
+** This code may not be used for any purpose that harms humans (including
+** exploitation and discrimination), humanity, the environment or the
+** universe.
+*/
+
+package bka.math.graphs;
+
+import java.util.*;
+
+/**
+ * Immutable set backed by a PersistentMap. Methods that modify the set return a new set that shares structure with this set.
+ * Elements must not be null.
+ * @see bka.math.graphs.PersistentMap
+ * @param <E> element type
+ */
+public final class PersistentSet<E> implements Iterable<E> {
+
+    /**
+     * Create an empty set.
+     */
+    public PersistentSet() {
+        this(new PersistentMap<>());
+    }
+
+    private PersistentSet(PersistentMap<E, Boolean> map) {
+        this.map = map;
+    }
+
+    public int size() {
+        return map.size();
+    }
+
+    public boolean isEmpty() {
+        return map.isEmpty();
+    }
+
+    public boolean contains(Object element) {
+        return map.containsKey(element);
+    }
+
+    /**
+     * @param element
+     * @return set that contains given element, this set if it already did
+     */
+    public PersistentSet<E> with(E element) {
+        PersistentMap<E, Boolean> newMap = map.with(element, Boolean.TRUE);
+        return (newMap == map) ? this : new PersistentSet<>(newMap);
+    }
+
+    /**
+     * @param element
+     * @return set without given element, this set if it did not contain the element
+     */
+    public PersistentSet<E> without(Object element) {
+        PersistentMap<E, Boolean> newMap = map.without(element);
+        return (newMap == map) ? this : new PersistentSet<>(newMap);
+    }
+
+    /**
+     * @return unmodifiable set view of this set
+     */
+    public Set<E> asSet() {
+        return Collections.unmodifiableSet(map.asMap().keySet());
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return asSet().iterator();
+    }
+
+    @Override
+    public String toString() {
+        return asSet().toString();
+    }
+
+    private final PersistentMap<E, Boolean> map;
+
+}
@@ -6,9 +6,6 @@
 */
 package bka.math.graphs;
 
-import java.util.*;
-
-
 /**
  * Default implementation of a directed edge for given vertex type.
  * To be used in graphs where multiple edges are not allowed. That is, two or more edges that join the same origin to the same terminus, are not allowed.
@@ -34,6 +31,6 @@ public class UniqueDirectedEdge<V> extends DirectedEdge<V> {
 
     @Override
     public int hashCode() {
-        return Objects.hash(getOrigin(), getTerminus());
+        return 31 * getOrigin().hashCode() + getTerminus().hashCode();
     }
 }
@@ -6,9 +6,6 @@
 */
 package bka.math.graphs;
 
-import java.util.*;
-
-
 /**
  * Default implementation of an undirected edge for given vertex type.
  * To be used in graphs where multiple edges are not allowed. That is two or more edges that join the same vertices, are not allowed.
@@ -27,18 +24,18 @@ public class UniqueUndirectedEdge<V> extends UndirectedEdge<V> {
             return true;
         }
         if (object instanceof UniqueUndirectedEdge other) {
-            return vertexSet().equals(other.vertexSet());
+            return getVertex1().equals(other.getVertex1()) && getVertex2().equals(other.getVertex2())
+                || getVertex1().equals(other.getVertex2()) && getVertex2().equals(other.getVertex1());
         }
         return false;
     }
 
+    /**
+     * @return sum of the hash codes of the vertices, which does not depend on their order
+     */
     @Override
     public int hashCode() {
-        return vertexSet().hashCode();
-    }
-    
-    private HashSet<V> vertexSet() {
-        return new HashSet<>(getVertices());
+        return getVertex1().hashCode() + getVertex2().hashCode();
     }
 
 }
@@ -0,0 +1,95 @@
+/*
+** © Bart Kampers
+** This code may not be used for any purpose that harms humans (including
+** exploitation and discrimination), humanity, the environment or the
+** universe.
+*/
+
+package bka.math.graphs;
+
+import java.util.*;
+
+/**
+ * Assigns dense int ids to vertices, ranging from 0 to the number of interned vertices, in order of interning.
+ * Ids are stable: once a vertex is interned its id never changes. Algorithms can intern the vertices of a graph once,
+ * work on ids in primitive arrays, and map ids back to vertices only for their results.
+ * @param <V> vertex type
+ */
+public final class VertexIndex<V> {
+
+    public VertexIndex() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param capacity number of vertices this index can contain without growing
+     */
+    public VertexIndex(int capacity) {
+        ids = new HashMap<>(Math.max(capacity, 1) * 4 / 3 + 1);
+        vertices = new ArrayList<>(capacity);
+    }
+
+    /**
+     * @param vertices to intern, in iteration order
+     */
+    public VertexIndex(Collection<V> vertices) {
+        this(vertices.size());
+        vertices.forEach(this::intern);
+    }
+
+    /**
+     * @param vertex
+     * @return id of given vertex, assigning the next id if the vertex was not interned before
+     */
+    public int intern(V vertex) {
+        Integer id = ids.get(Objects.requireNonNull(vertex));
+        if (id == null) {
+            id = vertices.size();
+            ids.put(vertex, id);
+            vertices.add(vertex);
+        }
+        return id;
+    }
+
+    /**
+     * @param vertex
+     * @return id of given vertex, -1 if the vertex is not interned
+     */
+    public int getId(V vertex) {
+        Integer id = ids.get(vertex);
+        return (id == null) ? -1 : id;
+    }
+
+    /**
+     * @param id
+     * @return vertex with given id
+     * @throws IndexOutOfBoundsException if no vertex has given id
+     */
+    public V getVertex(int id) {
+        return vertices.get(id);
+    }
+
+    public boolean contains(V vertex) {
+        return ids.containsKey(vertex);
+    }
+
+    /**
+     * @return number of interned vertices, which is also the next id to assign
+     */
+    public int size() {
+        return vertices.size();
+    }
+
+    /**
+     * @return unmodifiable list of interned vertices, where the position of each vertex is its id
+     */
+    public List<V> getVertices() {
+        return Collections.unmodifiableList(vertices);
+    }
+
+    private final Map<V, Integer> ids;
+    private final List<V> vertices;
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+}
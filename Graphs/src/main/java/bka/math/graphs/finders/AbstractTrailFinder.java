@@ -16,6 +16,63 @@ import java.util.stream.*;
 
 public abstract class AbstractTrailFinder<V, E extends Edge<V>> implements TrailFinder<V, E> {
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public <S> void setIncrementalRestriction(TrailAccumulator<S, E> restriction) {
+        incrementalRestriction = (TrailAccumulator<Object, E>) restriction;
+    }
+
+    @Override
+    public void setMonitor(SearchMonitor monitor) {
+        this.monitor = monitor;
+    }
+
+    /**
+     * Report that the search expands a stage at given depth.
+     * @param depth length of the trail leading to the stage
+     * @return false if the search must stop, because a budget of the monitor is exceeded or because the thread is interrupted
+     */
+    protected boolean expand(int depth) {
+        return (monitor == null) ? !Thread.currentThread().isInterrupted() : monitor.expand(depth);
+    }
+
+    /**
+     * @return true if the search must stop, because a budget of the monitor is exceeded or because the thread is interrupted
+     */
+    protected boolean isStopped() {
+        return (monitor == null) ? Thread.currentThread().isInterrupted() : monitor.isStopped();
+    }
+
+    protected void edgeTried() {
+        if (monitor != null) {
+            monitor.edgeTried();
+        }
+    }
+
+    protected void restrictionRejected() {
+        if (monitor != null) {
+            monitor.restrictionRejected();
+        }
+    }
+
+    protected void resultFound() {
+        if (monitor != null) {
+            monitor.resultFound();
+        }
+    }
+
+    protected Object initialState() {
+        return (incrementalRestriction == null) ? null : incrementalRestriction.initial();
+    }
+
+    protected Object extendState(Object state, E edge) {
+        return (incrementalRestriction == null) ? null : incrementalRestriction.extend(state, edge);
+    }
+
+    protected boolean acceptState(Object state) {
+        return incrementalRestriction == null || incrementalRestriction.accept(state);
+    }
+
     protected Collection<E> complement(Collection<E> edges, E edge) {
         return edges.stream().filter(Predicate.not(Predicate.isEqual(edge))).collect(Collectors.toList());
     }
@@ -32,4 +89,7 @@ public abstract class AbstractTrailFinder<V, E extends Edge<V>> implements Trail
         return (T any) -> false;
     }
 
+    private TrailAccumulator<Object, E> incrementalRestriction;
+    private SearchMonitor monitor;
+
 }
@@ -0,0 +1,315 @@
+/*
+** © Bart Kampers
+** This code may not be used for any purpose that harms humans (including
+** exploitation and discrimination), humanity, the environment or the
+** universe.
+*/
+
+package bka.math.graphs.finders;
+
+import bka.math.graphs.*;
+import bka.math.graphs.utils.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.*;
+
+/**
+ * Finds shortest paths between all pairs of vertices in a graph, using the threads of a ForkJoinPool.
+ * Dense graphs are solved by a blocked Floyd-Warshall algorithm on a flat distance matrix, where the blocks of every round that
+ * do not depend on each other are updated concurrently. Sparse graphs are solved by one Dijkstra search per source vertex,
+ * or one breadth first search per source vertex if the graph is unweighted, where every source is a separate task.
+ * Edges of type DirectedEdge are only traversed from origin to terminus, other edges are traversed both ways.
+ * Edge weights must not be negative. The resulting matrix takes memory proportional to the square of the number of vertices.
+ *
+ * @param <V> vertex type
+ * @param <E> edge type
+ * @see bka.math.graphs.finders.ShortestPathFinder
+ * @see <a href="https://en.wikipedia.org/wiki/Floyd%E2%80%93Warshall_algorithm">Floyd-Warshall algorithm on Wikipedia</a>
+ */
+public class AllPairsShortestPathFinder<V, E extends Edge<V>> {
+
+    public enum Algorithm { FLOYD_WARSHALL, DIJKSTRA }
+
+    /**
+     * Create a finder for unweighted graphs, where the length of a path is its number of edges.
+     */
+    public AllPairsShortestPathFinder() {
+        this(null, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param weight function that supplies the weight (length, cost) of edges
+     */
+    public AllPairsShortestPathFinder(ToDoubleFunction<E> weight) {
+        this(Objects.requireNonNull(weight), ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param weight function that supplies the weight (length, cost) of edges, null if the graph is unweighted
+     * @param pool
+     */
+    public AllPairsShortestPathFinder(ToDoubleFunction<E> weight, ForkJoinPool pool) {
+        this.weight = weight;
+        this.pool = Objects.requireNonNull(pool);
+    }
+
+    /**
+     * @param algorithm to use, if null the algorithm is chosen by the density of the graph
+     */
+    public void setAlgorithm(Algorithm algorithm) {
+        this.algorithm = algorithm;
+    }
+
+    /**
+     * @param graph
+     * @return shortest distances and paths between all pairs of vertices in given graph
+     * @throws IllegalArgumentException if an edge has a negative weight or if the graph has too many vertices for a matrix
+     */
+    public DistanceMatrix<V, E> find(GraphBase<V, E> graph) {
+        IndexedGraph<V, E> indexedGraph = IndexedGraph.of(graph);
+        int vertexCount = indexedGraph.getVertexCount();
+        if ((long) vertexCount * vertexCount > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Too many vertices: " + vertexCount);
+        }
+        double[] weights = weights(indexedGraph);
+        double[] distances = new double[vertexCount * vertexCount];
+        int[] predecessors = new int[vertexCount * vertexCount];
+        Arrays.fill(distances, Double.POSITIVE_INFINITY);
+        Arrays.fill(predecessors, NONE);
+        if (selectAlgorithm(indexedGraph) == Algorithm.FLOYD_WARSHALL) {
+            pool.invoke(new FloydWarshall(indexedGraph, weights, distances, predecessors));
+        }
+        else {
+            List<ForkJoinTask<?>> tasks = new ArrayList<>(vertexCount);
+            for (int source = 0; source < vertexCount; ++source) {
+                tasks.add(new SingleSourceTask(indexedGraph, weights, source, distances, predecessors));
+            }
+            pool.invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(tasks)));
+        }
+        return new DistanceMatrix<>(indexedGraph, distances, predecessors);
+    }
+
+    private Algorithm selectAlgorithm(IndexedGraph<V, E> graph) {
+        if (algorithm != null) {
+            return algorithm;
+        }
+        long vertexCount = graph.getVertexCount();
+        return ((long) graph.getEdgeCount() * DENSITY_DIVISOR >= vertexCount * vertexCount) ? Algorithm.FLOYD_WARSHALL : Algorithm.DIJKSTRA;
+    }
+
+    /**
+     * @return weight of every edge index, null if graph is unweighted
+     */
+    private double[] weights(IndexedGraph<V, E> graph) {
+        if (weight == null) {
+            return null;
+        }
+        double[] weights = new double[graph.getEdgeCount()];
+        for (int edge = 0; edge < weights.length; ++edge) {
+            weights[edge] = weight.applyAsDouble(graph.getEdge(edge));
+            if (!(weights[edge] >= 0.0)) {
+                throw new IllegalArgumentException("Illegal weight " + weights[edge] + " of edge " + graph.getEdge(edge));
+            }
+        }
+        return weights;
+    }
+
+    private static double weight(double[] weights, int edge) {
+        return (weights == null) ? 1.0 : weights[edge];
+    }
+
+    /**
+     * Fills the row of one source vertex in the distance and predecessor matrices.
+     */
+    private static class SingleSourceTask extends RecursiveAction {
+
+        SingleSourceTask(IndexedGraph<?, ?> graph, double[] weights, int source, double[] distances, int[] predecessors) {
+            this.graph = graph;
+            this.weights = weights;
+            this.source = source;
+            this.distances = distances;
+            this.predecessors = predecessors;
+        }
+
+        @Override
+        protected void compute() {
+            int offset = source * graph.getVertexCount();
+            distances[offset + source] = 0.0;
+            if (weights == null) {
+                breadthFirst(offset);
+            }
+            else {
+                dijkstra(offset);
+            }
+        }
+
+        private void breadthFirst(int offset) {
+            int[] queue = new int[graph.getVertexCount()];
+            int head = 0;
+            int tail = 0;
+            queue[tail++] = source;
+            while (head < tail) {
+                int vertex = queue[head++];
+                for (int i = 0; i < graph.getIncidenceCount(vertex); ++i) {
+                    int edge = graph.getIncidentEdgeIndex(vertex, i);
+                    int next = next(graph, edge, vertex);
+                    if (next != NONE && distances[offset + next] == Double.POSITIVE_INFINITY) {
+                        distances[offset + next] = distances[offset + vertex] + 1.0;
+                        predecessors[offset + next] = edge;
+                        queue[tail++] = next;
+                    }
+                }
+            }
+        }
+
+        private void dijkstra(int offset) {
+            IndexedDoubleHeap queue = new IndexedDoubleHeap(graph.getVertexCount());
+            queue.put(source, 0.0);
+            while (!queue.isEmpty()) {
+                int vertex = queue.poll();
+                for (int i = 0; i < graph.getIncidenceCount(vertex); ++i) {
+                    int edge = graph.getIncidentEdgeIndex(vertex, i);
+                    int next = next(graph, edge, vertex);
+                    if (next != NONE) {
+                        double distance = distances[offset + vertex] + weights[edge];
+                        if (distance < distances[offset + next]) {
+                            distances[offset + next] = distance;
+                            predecessors[offset + next] = edge;
+                            queue.put(next, distance);
+                        }
+                    }
+                }
+            }
+        }
+
+        private final IndexedGraph<?, ?> graph;
+        private final double[] weights;
+        private final int source;
+        private final double[] distances;
+        private final int[] predecessors;
+    }
+
+    /**
+     * Floyd-Warshall on square blocks of the distance matrix. Each round first updates the diagonal block of the round,
+     * then all blocks in its row and column concurrently, then all remaining blocks concurrently.
+     * The predecessor of a pair is the last edge of its shortest path, so a path through vertex k inherits the predecessor of pair (k, j).
+     * Paths of equal distance are ordered by their number of edges. Without this tie break the blocked update order can make
+     * predecessors of vertices connected by edges of weight zero point at each other.
+     */
+    private static class FloydWarshall extends RecursiveAction {
+
+        FloydWarshall(IndexedGraph<?, ?> graph, double[] weights, double[] distances, int[] predecessors) {
+            this.graph = graph;
+            this.weights = weights;
+            this.distances = distances;
+            this.predecessors = predecessors;
+            vertexCount = graph.getVertexCount();
+            edgeCounts = new int[vertexCount * vertexCount];
+            blockCount = (vertexCount + BLOCK_SIZE - 1) / BLOCK_SIZE;
+        }
+
+        @Override
+        protected void compute() {
+            initialize();
+            for (int round = 0; round < blockCount; ++round) {
+                update(round, round, round);
+                List<ForkJoinTask<?>> tasks = new ArrayList<>();
+                for (int block = 0; block < blockCount; ++block) {
+                    if (block != round) {
+                        tasks.add(updateTask(round, block, round));
+                        tasks.add(updateTask(block, round, round));
+                    }
+                }
+                invokeAll(tasks);
+                tasks.clear();
+                for (int row = 0; row < blockCount; ++row) {
+                    for (int column = 0; column < blockCount; ++column) {
+                        if (row != round && column != round) {
+                            tasks.add(updateTask(row, column, round));
+                        }
+                    }
+                }
+                invokeAll(tasks);
+            }
+        }
+
+        private void initialize() {
+            for (int vertex = 0; vertex < vertexCount; ++vertex) {
+                distances[vertex * vertexCount + vertex] = 0.0;
+            }
+            for (int edge = 0; edge < graph.getEdgeCount(); ++edge) {
+                int first = graph.getFirstVertexIndex(edge);
+                int second = graph.getSecondVertexIndex(edge);
+                initialize(edge, first, second);
+                if (!graph.isDirected(edge)) {
+                    initialize(edge, second, first);
+                }
+            }
+        }
+
+        private void initialize(int edge, int from, int to) {
+            int index = from * vertexCount + to;
+            double distance = weight(weights, edge);
+            if (distance < distances[index]) {
+                distances[index] = distance;
+                predecessors[index] = edge;
+                edgeCounts[index] = 1;
+            }
+        }
+
+        private ForkJoinTask<?> updateTask(int rowBlock, int columnBlock, int round) {
+            return ForkJoinTask.adapt(() -> update(rowBlock, columnBlock, round));
+        }
+
+        private void update(int rowBlock, int columnBlock, int round) {
+            int rowEnd = Math.min((rowBlock + 1) * BLOCK_SIZE, vertexCount);
+            int columnStart = columnBlock * BLOCK_SIZE;
+            int columnEnd = Math.min(columnStart + BLOCK_SIZE, vertexCount);
+            int via = round * BLOCK_SIZE;
+            int viaEnd = Math.min(via + BLOCK_SIZE, vertexCount);
+            for (; via < viaEnd; ++via) {
+                int viaOffset = via * vertexCount;
+                for (int row = rowBlock * BLOCK_SIZE; row < rowEnd; ++row) {
+                    int rowOffset = row * vertexCount;
+                    double toVia = distances[rowOffset + via];
+                    if (toVia < Double.POSITIVE_INFINITY) {
+                        int edgesToVia = edgeCounts[rowOffset + via];
+                        for (int column = columnStart; column < columnEnd; ++column) {
+                            double distance = toVia + distances[viaOffset + column];
+                            double current = distances[rowOffset + column];
+                            if (distance < current || (distance == current && edgesToVia + edgeCounts[viaOffset + column] < edgeCounts[rowOffset + column])) {
+                                distances[rowOffset + column] = distance;
+                                predecessors[rowOffset + column] = predecessors[viaOffset + column];
+                                edgeCounts[rowOffset + column] = edgesToVia + edgeCounts[viaOffset + column];
+                            }
+                        }
+                    }
+                }
+            }
+        }
+
+        private final IndexedGraph<?, ?> graph;
+        private final double[] weights;
+        private final double[] distances;
+        private final int[] predecessors;
+        private final int[] edgeCounts;
+        private final int vertexCount;
+        private final int blockCount;
+    }
+
+    private static int next(IndexedGraph<?, ?> graph, int edge, int vertex) {
+        if (graph.isDirected(edge) && graph.getFirstVertexIndex(edge) != vertex) {
+            return NONE;
+        }
+        return graph.getAdjacentVertexIndex(edge, vertex);
+    }
+
+    private final ToDoubleFunction<E> weight;
+    private final ForkJoinPool pool;
+    private Algorithm algorithm;
+
+    private static final int NONE = -1;
+    private static final int BLOCK_SIZE = 64;
+    private static final int DENSITY_DIVISOR = 4;
+
+}
@@ -0,0 +1,449 @@
+/*
+** © Bart Kampers
+** This code may not be used for any purpose that harms humans (including
+** exploitation and discrimination), humanity, the environment or the
+** universe.
+*/
+
+package bka.math.graphs.finders;
+
+import bka.math.graphs.*;
+import java.util.*;
+import java.util.stream.*;
+
+/**
+ * Finds strongly connected components, topological order and cycles in directed graphs.
+ * All algorithms take time proportional to the number of vertices plus the number of edges.
+ * They use explicit stacks instead of recursion, so graph size is not limited by the call stack.
+ *
+ * @param <V> vertex type
+ * @param <E> edge type
+ * @see bka.math.graphs.Digraph
+ */
+public class DigraphAnalyzer<V, E extends DirectedEdge<V>> {
+
+    /**
+     * Find the strongly connected components of a graph, using Tarjan's algorithm.
+     * A strongly connected component is a maximal set of vertices in which every vertex can be reached from every other vertex.
+     *
+     * @param graph
+     * @return all strongly connected components of given graph, in reverse topological order:
+     *         no edge leads from a component to a component that comes after it.
+     * @see <a href="https://en.wikipedia.org/wiki/Tarjan%27s_strongly_connected_components_algorithm">Tarjan's algorithm on Wikipedia</a>
+     */
+    public List<Set<V>> findStrongComponents(GraphBase<V, E> graph) {
+        IndexedGraph<V, E> indexedGraph = IndexedGraph.of(graph);
+        int[] vertices = new int[indexedGraph.getVertexCount()];
+        Arrays.setAll(vertices, vertex -> vertex);
+        BitSet allowed = new BitSet(vertices.length);
+        allowed.set(0, vertices.length);
+        List<Set<V>> components = new ArrayList<>();
+        for (int[] component : new StrongComponents(indexedGraph).find(vertices, allowed)) {
+            Set<V> vertexSet = new HashSet<>();
+            for (int vertex : component) {
+                vertexSet.add(indexedGraph.getVertex(vertex));
+            }
+            components.add(vertexSet);
+        }
+        return components;
+    }
+
+    /**
+     * Stream all elementary cycles of a graph, using Johnson's algorithm.
+     * An elementary cycle visits no vertex twice, except for its start vertex that is also its end vertex.
+     * Every cycle is found exactly once, starting at its vertex that comes first in the graph's vertex order.
+     * Cycles are found on demand while the stream is consumed. The time between two found cycles is proportional to
+     * the number of vertices plus the number of edges, regardless of the number of cycles in the graph.
+     *
+     * @param graph
+     * @return stream of the edge lists of all elementary cycles in given graph
+     * @see <a href="https://doi.org/10.1137/0204007">Johnson, Finding all the elementary circuits of a directed graph</a>
+     */
+    public Stream<List<E>> streamElementaryCycles(GraphBase<V, E> graph) {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(new CycleIterator(IndexedGraph.of(graph)), Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    /**
+     * Sort the vertices of an acyclic graph topologically, using Kahn's algorithm.
+     *
+     * @param graph
+     * @return all vertices of given graph, ordered so that every edge leads from a vertex to a vertex that comes after it.
+     * @throws IllegalArgumentException if given graph contains a cycle
+     * @see <a href="https://en.wikipedia.org/wiki/Topological_sorting">Topological sorting on Wikipedia</a>
+     */
+    public List<V> sortTopologically(GraphBase<V, E> graph) {
+        IndexedGraph<V, E> indexedGraph = IndexedGraph.of(graph);
+        int vertexCount = indexedGraph.getVertexCount();
+        int[] inDegrees = new int[vertexCount];
+        int[] queue = new int[vertexCount];
+        int tail = 0;
+        for (int vertex = 0; vertex < vertexCount; ++vertex) {
+            inDegrees[vertex] = indexedGraph.getIncomingCount(vertex);
+            if (inDegrees[vertex] == 0) {
+                queue[tail++] = vertex;
+            }
+        }
+        List<V> sorted = new ArrayList<>(vertexCount);
+        for (int head = 0; head < tail; ++head) {
+            int vertex = queue[head];
+            sorted.add(indexedGraph.getVertex(vertex));
+            for (int i = 0; i < indexedGraph.getOutgoingCount(vertex); ++i) {
+                int next = indexedGraph.getSecondVertexIndex(indexedGraph.getOutgoingEdgeIndex(vertex, i));
+                if (--inDegrees[next] == 0) {
+                    queue[tail++] = next;
+                }
+            }
+        }
+        if (sorted.size() < vertexCount) {
+            throw new IllegalArgumentException("Graph contains a cycle");
+        }
+        return sorted;
+    }
+
+    /**
+     * @param graph
+     * @return true if given graph contains no cycles
+     */
+    public boolean isAcyclic(GraphBase<V, E> graph) {
+        return findCycle(graph).isEmpty();
+    }
+
+    /**
+     * Find any cycle in a graph, using depth first search.
+     *
+     * @param graph
+     * @return edges of a cycle in given graph, empty if given graph is acyclic
+     */
+    public List<E> findCycle(GraphBase<V, E> graph) {
+        IndexedGraph<V, E> indexedGraph = IndexedGraph.of(graph);
+        int vertexCount = indexedGraph.getVertexCount();
+        int[] cursors = new int[vertexCount];
+        int[] depths = new int[vertexCount];
+        int[] vertexStack = new int[vertexCount];
+        int[] edgeStack = new int[vertexCount];
+        BitSet visited = new BitSet(vertexCount);
+        BitSet onStack = new BitSet(vertexCount);
+        for (int root = 0; root < vertexCount; ++root) {
+            if (visited.get(root)) {
+                continue;
+            }
+            int top = 0;
+            vertexStack[0] = root;
+            depths[root] = 0;
+            visited.set(root);
+            onStack.set(root);
+            while (top >= 0) {
+                int vertex = vertexStack[top];
+                if (cursors[vertex] < indexedGraph.getOutgoingCount(vertex)) {
+                    int edge = indexedGraph.getOutgoingEdgeIndex(vertex, cursors[vertex]++);
+                    int next = indexedGraph.getSecondVertexIndex(edge);
+                    if (onStack.get(next)) {
+                        List<E> cycle = new ArrayList<>(top - depths[next] + 1);
+                        for (int depth = depths[next] + 1; depth <= top; ++depth) {
+                            cycle.add(indexedGraph.getEdge(edgeStack[depth]));
+                        }
+                        cycle.add(indexedGraph.getEdge(edge));
+                        return cycle;
+                    }
+                    if (!visited.get(next)) {
+                        visited.set(next);
+                        onStack.set(next);
+                        top++;
+                        vertexStack[top] = next;
+                        edgeStack[top] = edge;
+                        depths[next] = top;
+                    }
+                }
+                else {
+                    onStack.clear(vertex);
+                    top--;
+                }
+            }
+        }
+        return Collections.emptyList();
+    }
+
+    /**
+     * Tarjan's algorithm on the subgraph induced by a set of allowed vertices.
+     * Arrays are allocated once and reset only for the vertices of each search, so repeated searches in small subgraphs stay cheap.
+     */
+    private class StrongComponents {
+
+        StrongComponents(IndexedGraph<V, E> graph) {
+            this.graph = graph;
+            int vertexCount = graph.getVertexCount();
+            indices = new int[vertexCount];
+            lowLinks = new int[vertexCount];
+            cursors = new int[vertexCount];
+            componentStack = new int[vertexCount];
+            callStack = new int[vertexCount];
+            onStack = new BitSet(vertexCount);
+        }
+
+        /**
+         * @param vertices to search from, all allowed
+         * @param allowed vertices of the subgraph
+         * @return strongly connected components of the subgraph, in reverse topological order
+         */
+        List<int[]> find(int[] vertices, BitSet allowed) {
+            for (int vertex : vertices) {
+                indices[vertex] = NONE;
+                cursors[vertex] = 0;
+            }
+            List<int[]> components = new ArrayList<>();
+            int index = 0;
+            int componentTop = 0;
+            for (int root : vertices) {
+                if (indices[root] != NONE) {
+                    continue;
+                }
+                int callTop = 0;
+                callStack[0] = root;
+                indices[root] = lowLinks[root] = index++;
+                componentStack[componentTop++] = root;
+                onStack.set(root);
+                while (callTop >= 0) {
+                    int vertex = callStack[callTop];
+                    if (cursors[vertex] < graph.getOutgoingCount(vertex)) {
+                        int next = graph.getSecondVertexIndex(graph.getOutgoingEdgeIndex(vertex, cursors[vertex]++));
+                        if (!allowed.get(next)) {
+                            continue;
+                        }
+                        if (indices[next] == NONE) {
+                            indices[next] = lowLinks[next] = index++;
+                            componentStack[componentTop++] = next;
+                            onStack.set(next);
+                            callStack[++callTop] = next;
+                        }
+                        else if (onStack.get(next)) {
+                            lowLinks[vertex] = Math.min(lowLinks[vertex], indices[next]);
+                        }
+                    }
+                    else {
+                        callTop--;
+                        if (lowLinks[vertex] == indices[vertex]) {
+                            int bottom = componentTop;
+                            do {
+                                onStack.clear(componentStack[--bottom]);
+                            } while (componentStack[bottom] != vertex);
+                            components.add(Arrays.copyOfRange(componentStack, bottom, componentTop));
+                            componentTop = bottom;
+                        }
+                        if (callTop >= 0) {
+                            int caller = callStack[callTop];
+                            lowLinks[caller] = Math.min(lowLinks[caller], lowLinks[vertex]);
+                        }
+                    }
+                }
+            }
+            return components;
+        }
+
+        private final IndexedGraph<V, E> graph;
+        private final int[] indices;
+        private final int[] lowLinks;
+        private final int[] cursors;
+        private final int[] componentStack;
+        private final int[] callStack;
+        private final BitSet onStack;
+    }
+
+    /**
+     * Johnson's algorithm. Searches cycles through the first vertex of a strongly connected component within that component,
+     * then removes the vertex and continues with the strongly connected components of what remains.
+     * Vertices from which the start vertex cannot be reached without passing the current path stay blocked
+     * until a vertex they lead to is found on a cycle.
+     */
+    private class CycleIterator implements Iterator<List<E>> {
+
+        CycleIterator(IndexedGraph<V, E> graph) {
+            this.graph = graph;
+            int vertexCount = graph.getVertexCount();
+            strongComponents = new StrongComponents(graph);
+            allowed = new BitSet(vertexCount);
+            blocked = new BitSet(vertexCount);
+            blockers = new ArrayList<>(Collections.nCopies(vertexCount, null));
+            vertexStack = new int[vertexCount];
+            edgeStack = new int[vertexCount];
+            cursors = new int[vertexCount];
+            closed = new boolean[vertexCount];
+            int[] vertices = new int[vertexCount];
+            Arrays.setAll(vertices, vertex -> vertex);
+            allowed.set(0, vertexCount);
+            queue(strongComponents.find(vertices, allowed));
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next == null && !exhausted) {
+                next = search();
+                exhausted = next == null;
+            }
+            return next != null;
+        }
+
+        @Override
+        public List<E> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            List<E> cycle = next;
+            next = null;
+            return cycle;
+        }
+
+        private List<E> search() {
+            while (true) {
+                if (top < 0) {
+                    if (component != null) {
+                        removeStart();
+                    }
+                    if (components.isEmpty()) {
+                        return null;
+                    }
+                    enter(components.pop());
+                }
+                int vertex = vertexStack[top];
+                if (cursors[top] < graph.getOutgoingCount(vertex)) {
+                    int edge = graph.getOutgoingEdgeIndex(vertex, cursors[top]++);
+                    int terminus = graph.getSecondVertexIndex(edge);
+                    if (terminus == vertexStack[0]) {
+                        closed[top] = true;
+                        return cycle(edge);
+                    }
+                    if (allowed.get(terminus) && !blocked.get(terminus)) {
+                        push(edge, terminus);
+                    }
+                }
+                else {
+                    pop();
+                }
+            }
+        }
+
+        private void enter(int[] component) {
+            this.component = component;
+            allowed.clear();
+            for (int vertex : component) {
+                allowed.set(vertex);
+                blocked.clear(vertex);
+                blockers.set(vertex, null);
+            }
+            int start = component[0];
+            for (int vertex : component) {
+                start = Math.min(start, vertex);
+            }
+            top = -1;
+            push(NONE, start);
+        }
+
+        private void removeStart() {
+            int start = vertexStack[0];
+            allowed.clear(start);
+            int[] remainder = new int[component.length - 1];
+            int i = 0;
+            for (int vertex : component) {
+                if (vertex != start) {
+                    remainder[i++] = vertex;
+                }
+            }
+            component = null;
+            queue(strongComponents.find(remainder, allowed));
+        }
+
+        private void queue(List<int[]> found) {
+            for (int[] candidate : found) {
+                if (candidate.length > 1 || hasLoop(candidate[0])) {
+                    components.push(candidate);
+                }
+            }
+        }
+
+        private boolean hasLoop(int vertex) {
+            for (int i = 0; i < graph.getOutgoingCount(vertex); ++i) {
+                if (graph.getSecondVertexIndex(graph.getOutgoingEdgeIndex(vertex, i)) == vertex) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private void push(int edge, int vertex) {
+            top++;
+            vertexStack[top] = vertex;
+            edgeStack[top] = edge;
+            cursors[top] = 0;
+            closed[top] = false;
+            blocked.set(vertex);
+        }
+
+        /**
+         * Leave the top vertex. If a cycle was found through it, it is unblocked, otherwise it stays blocked until one of its successors is unblocked.
+         */
+        private void pop() {
+            int vertex = vertexStack[top];
+            if (closed[top]) {
+                unblock(vertex);
+            }
+            else {
+                for (int i = 0; i < graph.getOutgoingCount(vertex); ++i) {
+                    int terminus = graph.getSecondVertexIndex(graph.getOutgoingEdgeIndex(vertex, i));
+                    if (allowed.get(terminus)) {
+                        if (blockers.get(terminus) == null) {
+                            blockers.set(terminus, new HashSet<>());
+                        }
+                        blockers.get(terminus).add(vertex);
+                    }
+                }
+            }
+            top--;
+            if (top >= 0 && closed[top + 1]) {
+                closed[top] = true;
+            }
+        }
+
+        private void unblock(int vertex) {
+            Deque<Integer> unblocking = new ArrayDeque<>();
+            unblocking.push(vertex);
+            while (!unblocking.isEmpty()) {
+                int unblocked = unblocking.pop();
+                blocked.clear(unblocked);
+                Set<Integer> blocking = blockers.set(unblocked, null);
+                if (blocking != null) {
+                    for (int blocker : blocking) {
+                        if (blocked.get(blocker)) {
+                            unblocking.push(blocker);
+                        }
+                    }
+                }
+            }
+        }
+
+        private List<E> cycle(int closingEdge) {
+            List<E> cycle = new ArrayList<>(top + 1);
+            for (int depth = 1; depth <= top; ++depth) {
+                cycle.add(graph.getEdge(edgeStack[depth]));
+            }
+            cycle.add(graph.getEdge(closingEdge));
+            return cycle;
+        }
+
+        private final IndexedGraph<V, E> graph;
+        private final StrongComponents strongComponents;
+        private final Deque<int[]> components = new ArrayDeque<>();
+        private final BitSet allowed;
+        private final BitSet blocked;
+        private final List<Set<Integer>> blockers;
+        private final int[] vertexStack;
+        private final int[] edgeStack;
+        private final int[] cursors;
+        private final boolean[] closed;
+        private int[] component;
+        private int top = -1;
+        private List<E> next;
+        private boolean exhausted;
+    }
+
+    private static final int NONE = -1;
+
+}
@@ -0,0 +1,106 @@
+/*
+** © Bart Kampers
+** This code may not be used for any purpose that harms humans (including
+** exploitation and discrimination), humanity, the environment or the
+** universe.
+*/
+
+package bka.math.graphs.finders;
+
+import bka.math.graphs.*;
+import java.util.*;
+
+/**
+ * Shortest distances and paths between all pairs of vertices of a graph, as found by an AllPairsShortestPathFinder.
+ * Distances and the last edges of shortest paths are stored in flat row major matrices over the vertex indices of an IndexedGraph.
+ *
+ * @param <V> vertex type
+ * @param <E> edge type
+ * @see bka.math.graphs.finders.AllPairsShortestPathFinder
+ */
+public class DistanceMatrix<V, E extends Edge<V>> {
+
+    DistanceMatrix(IndexedGraph<V, E> graph, double[] distances, int[] predecessors) {
+        this.graph = graph;
+        this.distances = distances;
+        this.predecessors = predecessors;
+    }
+
+    public IndexedGraph<V, E> getGraph() {
+        return graph;
+    }
+
+    /**
+     * @param start
+     * @param end
+     * @return true if a path from start to end was found
+     */
+    public boolean isReachable(V start, V end) {
+        return getDistance(start, end) < Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * @param start
+     * @param end
+     * @return total weight of the shortest path from start to end, positive infinity if no path was found
+     */
+    public double getDistance(V start, V end) {
+        int startIndex = graph.getVertexIndex(start);
+        int endIndex = graph.getVertexIndex(end);
+        return (startIndex < 0 || endIndex < 0) ? Double.POSITIVE_INFINITY : getDistance(startIndex, endIndex);
+    }
+
+    /**
+     * @param startIndex
+     * @param endIndex
+     * @return total weight of the shortest path between the vertices with given indices in the indexed graph
+     */
+    public double getDistance(int startIndex, int endIndex) {
+        return distances[startIndex * graph.getVertexCount() + endIndex];
+    }
+
+    /**
+     * @param start
+     * @param end
+     * @return edges of the shortest path from start to end, empty if start equals end or if no path was found.
+     * @see bka.math.graphs.utils.GraphUtil#vertexPath(java.util.List, java.lang.Object)
+     */
+    public List<E> getPath(V start, V end) {
+        int source = graph.getVertexIndex(start);
+        int index = graph.getVertexIndex(end);
+        if (source < 0 || index < 0 || getDistance(source, index) == Double.POSITIVE_INFINITY) {
+            return Collections.emptyList();
+        }
+        int offset = source * graph.getVertexCount();
+        LinkedList<E> path = new LinkedList<>();
+        while (index != source) {
+            int edge = predecessors[offset + index];
+            path.addFirst(graph.getEdge(edge));
+            index = graph.getAdjacentVertexIndex(edge, index);
+        }
+        return new ArrayList<>(path);
+    }
+
+    /**
+     * @param source
+     * @return shortest path tree of given source vertex
+     * @throws NoSuchElementException if the graph does not contain source
+     */
+    public ShortestPathTree<V, E> getShortestPathTree(V source) {
+        int index = graph.getVertexIndex(source);
+        if (index < 0) {
+            throw new NoSuchElementException(String.valueOf(source));
+        }
+        int offset = index * graph.getVertexCount();
+        return new ShortestPathTree<>(
+            graph,
+            index,
+            Arrays.copyOfRange(distances, offset, offset + graph.getVertexCount()),
+            Arrays.copyOfRange(predecessors, offset, offset + graph.getVertexCount()));
+    }
+
+    private final IndexedGraph<V, E> graph;
+    private final double[] distances;
+    private final int[] predecessors;
+
+}
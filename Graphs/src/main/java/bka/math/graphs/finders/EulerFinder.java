@@ -0,0 +1,233 @@
+/*
+** © Bart Kampers
+** This code may not be used for any purpose that harms humans (including
+** exploitation and discrimination), humanity, the environment or the
+** universe.
+*/
+
+package bka.math.graphs.finders;
+
+import bka.math.graphs.*;
+import java.util.*;
+
+/**
+ * Finds Eulerian trails and circuits, that is trails and circuits that contain every edge of a graph exactly once.
+ * Graphs must contain either only edges of type DirectedEdge or no edges of type DirectedEdge.
+ * Uses Hierholzer's algorithm, which takes time proportional to the number of edges.
+ *
+ * @param <V> vertex type
+ * @param <E> edge type
+ * @see <a href="https://en.wikipedia.org/wiki/Eulerian_path">Eulerian path on Wikipedia</a>
+ */
+public class EulerFinder<V, E extends Edge<V>> {
+
+    /**
+     * An undirected graph has an Eulerian trail only if it has zero or two vertices of odd degree.
+     * A directed graph has an Eulerian trail only if all vertices have equal in- and out-degree,
+     * except one vertex with one more outgoing edge and one vertex with one more incoming edge.
+     *
+     * @param graph
+     * @return all vertices of odd degree if given graph is undirected, all vertices of unequal in- and out-degree if given graph is directed.
+     * @throws IllegalArgumentException if given graph contains both directed and undirected edges
+     */
+    public Set<V> getUnbalancedVertices(GraphBase<V, E> graph) {
+        IndexedGraph<V, E> indexedGraph = compact(graph);
+        int[] balances = balances(indexedGraph);
+        Set<V> unbalanced = new HashSet<>();
+        for (int vertex = 0; vertex < balances.length; ++vertex) {
+            if (balances[vertex] != 0) {
+                unbalanced.add(indexedGraph.getVertex(vertex));
+            }
+        }
+        return unbalanced;
+    }
+
+    /**
+     * @param graph
+     * @return true if given graph has an Eulerian trail, which may be a circuit
+     * @throws IllegalArgumentException if given graph contains both directed and undirected edges
+     */
+    public boolean hasTrail(GraphBase<V, E> graph) {
+        return graph.getEdges().isEmpty() || !findTrail(graph).isEmpty();
+    }
+
+    /**
+     * @param graph
+     * @return true if given graph has an Eulerian circuit
+     * @throws IllegalArgumentException if given graph contains both directed and undirected edges
+     */
+    public boolean hasCircuit(GraphBase<V, E> graph) {
+        return graph.getEdges().isEmpty() || !findCircuit(graph).isEmpty();
+    }
+
+    /**
+     * @param graph
+     * @return an Eulerian trail of given graph, starting at a vertex of odd degree or of surplus out-degree if there is one.
+     *         Empty if given graph has no edges or no Eulerian trail.
+     * @throws IllegalArgumentException if given graph contains both directed and undirected edges
+     */
+    public List<E> findTrail(GraphBase<V, E> graph) {
+        IndexedGraph<V, E> indexedGraph = compact(graph);
+        int[] balances = balances(indexedGraph);
+        int start = NONE;
+        for (int vertex = 0; vertex < balances.length; ++vertex) {
+            if (balances[vertex] > 0) {
+                start = vertex;
+            }
+            else if (start == NONE && balances[vertex] == 0 && getEdgeCount(indexedGraph, vertex) > 0) {
+                start = vertex;
+            }
+        }
+        return (start == NONE) ? Collections.emptyList() : find(indexedGraph, balances, start, false);
+    }
+
+    /**
+     * @param graph
+     * @param start
+     * @return an Eulerian trail of given graph that starts at given vertex. Empty if given graph has no edges or no Eulerian trail starting at given vertex.
+     * @throws IllegalArgumentException if given graph contains both directed and undirected edges
+     */
+    public List<E> findTrail(GraphBase<V, E> graph, V start) {
+        IndexedGraph<V, E> indexedGraph = compact(graph);
+        int startIndex = indexedGraph.getVertexIndex(start);
+        return (startIndex == NONE) ? Collections.emptyList() : find(indexedGraph, balances(indexedGraph), startIndex, false);
+    }
+
+    /**
+     * @param graph
+     * @return an Eulerian circuit of given graph. Empty if given graph has no edges or no Eulerian circuit.
+     * @throws IllegalArgumentException if given graph contains both directed and undirected edges
+     */
+    public List<E> findCircuit(GraphBase<V, E> graph) {
+        IndexedGraph<V, E> indexedGraph = compact(graph);
+        for (int vertex = 0; vertex < indexedGraph.getVertexCount(); ++vertex) {
+            if (getEdgeCount(indexedGraph, vertex) > 0) {
+                return find(indexedGraph, balances(indexedGraph), vertex, true);
+            }
+        }
+        return Collections.emptyList();
+    }
+
+    /**
+     * @param graph
+     * @param start
+     * @return an Eulerian circuit of given graph that starts and ends at given vertex. Empty if given graph has no edges or no Eulerian circuit.
+     * @throws IllegalArgumentException if given graph contains both directed and undirected edges
+     */
+    public List<E> findCircuit(GraphBase<V, E> graph, V start) {
+        IndexedGraph<V, E> indexedGraph = compact(graph);
+        int startIndex = indexedGraph.getVertexIndex(start);
+        return (startIndex == NONE) ? Collections.emptyList() : find(indexedGraph, balances(indexedGraph), startIndex, true);
+    }
+
+    private List<E> find(IndexedGraph<V, E> graph, int[] balances, int start, boolean circuit) {
+        if (!isValidStart(balances, start, circuit)) {
+            return Collections.emptyList();
+        }
+        List<E> trail = hierholzer(graph, start);
+        return (trail.size() == graph.getEdgeCount()) ? trail : Collections.emptyList();
+    }
+
+    private boolean isValidStart(int[] balances, int start, boolean circuit) {
+        int unbalancedCount = 0;
+        for (int balance : balances) {
+            if (balance != 0) {
+                if (Math.abs(balance) > 1) {
+                    return false;
+                }
+                unbalancedCount++;
+            }
+        }
+        if (unbalancedCount == 0) {
+            return true;
+        }
+        return !circuit && unbalancedCount == 2 && balances[start] > 0;
+    }
+
+    /**
+     * Walks unused edges until getting stuck, then backtracks and adds the edges it backtracks over to the trail.
+     * Backtracking continues from the first vertex that still has unused edges.
+     */
+    private List<E> hierholzer(IndexedGraph<V, E> graph, int start) {
+        int[] cursors = new int[graph.getVertexCount()];
+        int[] vertexStack = new int[graph.getEdgeCount() + 1];
+        int[] edgeStack = new int[graph.getEdgeCount() + 1];
+        BitSet usedEdges = new BitSet(graph.getEdgeCount());
+        List<E> trail = new ArrayList<>(graph.getEdgeCount());
+        int top = 0;
+        vertexStack[0] = start;
+        edgeStack[0] = NONE;
+        while (top >= 0) {
+            int vertex = vertexStack[top];
+            int edge = nextUnusedEdge(graph, vertex, cursors, usedEdges);
+            if (edge != NONE) {
+                usedEdges.set(edge);
+                top++;
+                vertexStack[top] = graph.getAdjacentVertexIndex(edge, vertex);
+                edgeStack[top] = edge;
+            }
+            else {
+                if (edgeStack[top] != NONE) {
+                    trail.add(graph.getEdge(edgeStack[top]));
+                }
+                top--;
+            }
+        }
+        Collections.reverse(trail);
+        return trail;
+    }
+
+    private int nextUnusedEdge(IndexedGraph<V, E> graph, int vertex, int[] cursors, BitSet usedEdges) {
+        int count = getEdgeCount(graph, vertex);
+        while (cursors[vertex] < count) {
+            int edge = getEdge(graph, vertex, cursors[vertex]++);
+            if (!usedEdges.get(edge)) {
+                return edge;
+            }
+        }
+        return NONE;
+    }
+
+    /**
+     * @return for every vertex: out-degree minus in-degree if graph is directed, degree modulo 2 if graph is undirected.
+     */
+    private int[] balances(IndexedGraph<V, E> graph) {
+        int[] balances = new int[graph.getVertexCount()];
+        for (int edge = 0; edge < graph.getEdgeCount(); ++edge) {
+            if (isDirected(graph)) {
+                balances[graph.getFirstVertexIndex(edge)]++;
+                balances[graph.getSecondVertexIndex(edge)]--;
+            }
+            else if (graph.getFirstVertexIndex(edge) != graph.getSecondVertexIndex(edge)) {
+                balances[graph.getFirstVertexIndex(edge)] ^= 1;
+                balances[graph.getSecondVertexIndex(edge)] ^= 1;
+            }
+        }
+        return balances;
+    }
+
+    private int getEdgeCount(IndexedGraph<V, E> graph, int vertex) {
+        return (isDirected(graph)) ? graph.getOutgoingCount(vertex) : graph.getIncidenceCount(vertex);
+    }
+
+    private int getEdge(IndexedGraph<V, E> graph, int vertex, int n) {
+        return (isDirected(graph)) ? graph.getOutgoingEdgeIndex(vertex, n) : graph.getIncidentEdgeIndex(vertex, n);
+    }
+
+    private static <V, E extends Edge<V>> boolean isDirected(IndexedGraph<V, E> graph) {
+        return graph.getEdgeCount() > 0 && graph.isDirected(0);
+    }
+
+    private IndexedGraph<V, E> compact(GraphBase<V, E> graph) {
+        IndexedGraph<V, E> indexedGraph = IndexedGraph.of(graph);
+        for (int edge = 1; edge < indexedGraph.getEdgeCount(); ++edge) {
+            if (indexedGraph.isDirected(edge) != indexedGraph.isDirected(0)) {
+                throw new IllegalArgumentException("Graph contains both directed and undirected edges");
+            }
+        }
+        return indexedGraph;
+    }
+
+    private static final int NONE = -1;
+
+}
@@ -10,6 +10,7 @@ package bka.math.graphs.finders;
 import bka.math.graphs.*;
 import java.util.*;
 import java.util.function.*;
+import java.util.stream.*;
 
 /**
  * Finds trails, paths, cycles and circuits in graphs.
@@ -115,7 +116,7 @@ public class GraphExplorer<V, E extends Edge<V>> {
         if (end != null) {
             requireVertex(graph, end);
         }
-        return finder.find(graph.getEdges(), start, end, true);
+        return finder.find(graph, start, end, true);
     }
 
     /**
@@ -128,7 +129,7 @@ public class GraphExplorer<V, E extends Edge<V>> {
      */
     public Collection<List<E>> findAllCircuits(GraphBase<V, E> graph, V vertex) {
         requireVertex(graph, vertex);
-        return finder.find(graph.getEdges(), vertex, vertex, true);
+        return finder.find(graph, vertex, vertex, true);
     }
 
     /**
@@ -160,7 +161,7 @@ public class GraphExplorer<V, E extends Edge<V>> {
         if (end != null) {
             requireVertex(graph, end);
         }
-        return finder.find(graph.getEdges(), start, end, false);
+        return finder.find(graph, start, end, false);
     }
 
     /**
@@ -173,7 +174,95 @@ public class GraphExplorer<V, E extends Edge<V>> {
      */
     public Collection<List<E>> findAllCycles(GraphBase<V, E> graph, V vertex) {
         requireVertex(graph, vertex);
-        return finder.find(graph.getEdges(), vertex, vertex, false);
+        return finder.find(graph, vertex, vertex, false);
+    }
+
+    /**
+     * Stream all trails from given vertex in a graph to any end vertex. Trails are found on demand if the finder supports it.
+     *
+     * @param graph
+     * @param vertex
+     * @return a stream of all trails
+     * @see #findAllTrails(bka.math.graphs.GraphBase, java.lang.Object)
+     * @see bka.math.graphs.finders.TrailFinder#stream(java.util.Collection, java.lang.Object, java.lang.Object, boolean)
+     */
+    public Stream<List<E>> streamAllTrails(GraphBase<V, E> graph, V vertex) {
+        return streamAllTrails(graph, vertex, null);
+    }
+
+    /**
+     * Stream all trails between two vertices in a graph. Trails are found on demand if the finder supports it.
+     *
+     * @param graph
+     * @param start
+     * @param end
+     * @return a stream of all trails
+     * @see #findAllTrails(bka.math.graphs.GraphBase, java.lang.Object, java.lang.Object)
+     */
+    public Stream<List<E>> streamAllTrails(GraphBase<V, E> graph, V start, V end) {
+        requireVertex(graph, start);
+        if (end != null) {
+            requireVertex(graph, end);
+        }
+        return finder.stream(graph, start, end, true);
+    }
+
+    /**
+     * Stream all circuits in a graph that contain a given vertex. Circuits are found on demand if the finder supports it.
+     *
+     * @param graph
+     * @param vertex
+     * @return a stream of all circuits that contain the vertex
+     * @see #findAllCircuits(bka.math.graphs.GraphBase, java.lang.Object)
+     */
+    public Stream<List<E>> streamAllCircuits(GraphBase<V, E> graph, V vertex) {
+        requireVertex(graph, vertex);
+        return finder.stream(graph, vertex, vertex, true);
+    }
+
+    /**
+     * Stream all paths from given vertex in a graph to any end vertex. Paths are found on demand if the finder supports it.
+     *
+     * @param graph
+     * @param vertex
+     * @return a stream of all paths
+     * @see #findAllPaths(bka.math.graphs.GraphBase, java.lang.Object)
+     */
+    public Stream<List<E>> streamAllPaths(GraphBase<V, E> graph, V vertex) {
+        return streamAllPaths(graph, vertex, null);
+    }
+
+    /**
+     * Stream all paths between two vertices in a graph. Paths are found on demand if the finder supports it.
+     *
+     * @param graph
+     * @param start
+     * @param end
+     * @return a stream of all paths
+     * @see #findAllPaths(bka.math.graphs.GraphBase, java.lang.Object, java.lang.Object)
+     */
+    public Stream<List<E>> streamAllPaths(GraphBase<V, E> graph, V start, V end) {
+        if (start.equals(end)) {
+            return streamAllCycles(graph, start);
+        }
+        requireVertex(graph, start);
+        if (end != null) {
+            requireVertex(graph, end);
+        }
+        return finder.stream(graph, start, end, false);
+    }
+
+    /**
+     * Stream all cycles in a graph that contain a given vertex. Cycles are found on demand if the finder supports it.
+     *
+     * @param graph
+     * @param vertex
+     * @return a stream of all cycles that contain the vertex
+     * @see #findAllCycles(bka.math.graphs.GraphBase, java.lang.Object)
+     */
+    public Stream<List<E>> streamAllCycles(GraphBase<V, E> graph, V vertex) {
+        requireVertex(graph, vertex);
+        return finder.stream(graph, vertex, vertex, false);
     }
 
     private static <V, E extends Edge<V>> void requireVertex(GraphBase<V, E> graph, V vertex) {
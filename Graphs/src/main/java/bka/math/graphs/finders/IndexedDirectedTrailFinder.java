@@ -0,0 +1,30 @@
+/*
+** © Bart Kampers
+** This code may not be used for any purpose that harms humans (including
+** exploitation and discrimination), humanity, the environment or the
+** universe.
+*/
+
+package bka.math.graphs.finders;
+
+import bka.math.graphs.*;
+
+
+public class IndexedDirectedTrailFinder<V, E extends DirectedEdge<V>> extends IndexedTrailFinder<V, E> {
+
+    @Override
+    protected int getEdgeCount(IndexedGraph<V, E> graph, int vertex) {
+        return graph.getOutgoingCount(vertex);
+    }
+
+    @Override
+    protected int getEdge(IndexedGraph<V, E> graph, int vertex, int n) {
+        return graph.getOutgoingEdgeIndex(vertex, n);
+    }
+
+    @Override
+    protected int next(IndexedGraph<V, E> graph, int edge, int vertex) {
+        return graph.getSecondVertexIndex(edge);
+    }
+
+}
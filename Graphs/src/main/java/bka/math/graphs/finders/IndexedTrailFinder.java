@@ -0,0 +1,369 @@
+/*
+** © Bart Kampers
+** This code may not be used for any purpose that harms humans (including
+** exploitation and discrimination), humanity, the environment or the
+** universe.
+*/
+
+package bka.math.graphs.finders;
+
+import bka.math.graphs.*;
+import java.util.*;
+import java.util.function.*;
+import java.util.stream.*;
+
+/**
+ * Trail finder that searches an IndexedGraph, such as a CompactGraph or a MappedGraph, without copying edge collections.
+ * Used edges and vertices that may not be revisited are tracked in bit sets over edge and vertex indices.
+ * Backtracking clears the bits that were set when descending. Finds the same resolutions as NonRecursiveTrailFinder.
+ *
+ * @param <V> vertex type
+ * @param <E> edge type
+ * @see bka.math.graphs.IndexedGraph
+ */
+public class IndexedTrailFinder<V, E extends Edge<V>> extends AbstractTrailFinder<V, E> {
+
+    @Override
+    public void setRestriction(Predicate<List<E>> restriction) {
+        this.restriction = (restriction == null) ? allPass() : restriction;
+    }
+
+    @Override
+    public void setFilter(Predicate<List<E>> filter) {
+        this.filter = (filter == null) ? allPass() : filter;
+    }
+
+    /**
+     * Set conditon the collections of found resolutions has to meet in order to stop searching for more resolutions
+     * @param limiter predicate
+     */
+    public void setLimiter(Predicate<Collection<List<E>>> limiter) {
+        this.limiter = (limiter == null) ? nonePass() : limiter;
+    }
+
+    @Override
+    public Collection<List<E>> find(Collection<E> graph, V start, V end, boolean revisitVertices) {
+        return find(new CompactGraph<>(graph), start, end, revisitVertices);
+    }
+
+    /**
+     * Find all trails or paths in given indexed graph without compiling the graph first.
+     * @param graph
+     * @param start
+     * @param end optional, null if omitted
+     * @param revisitVertices true if all trails may be included in the resolution, false if only paths may be included.
+     * @return found resolutions
+     * @see bka.math.graphs.finders.TrailFinder#find(java.util.Collection, java.lang.Object, java.lang.Object, boolean)
+     */
+    public Collection<List<E>> find(IndexedGraph<V, E> graph, V start, V end, boolean revisitVertices) {
+        Collection<List<E>> foundTrails = new ArrayList<>();
+        Iterator<List<E>> iterator = iterator(graph, start, end, revisitVertices);
+        while (!limiter.test(foundTrails) && iterator.hasNext()) {
+            foundTrails.add(iterator.next());
+        }
+        return foundTrails;
+    }
+
+    /**
+     * Resolutions are found on demand while the stream is consumed. The limiter does not apply to streams.
+     */
+    @Override
+    public Stream<List<E>> stream(Collection<E> graph, V start, V end, boolean revisitVertices) {
+        return stream(new CompactGraph<>(graph), start, end, revisitVertices);
+    }
+
+    /**
+     * Stream all trails or paths in given indexed graph without compiling the graph first.
+     * Resolutions are found on demand while the stream is consumed. The limiter does not apply to streams.
+     * @param graph
+     * @param start
+     * @param end optional, null if omitted
+     * @param revisitVertices true if all trails may be included in the resolution, false if only paths may be included.
+     * @return stream of resolutions
+     */
+    public Stream<List<E>> stream(IndexedGraph<V, E> graph, V start, V end, boolean revisitVertices) {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator(graph, start, end, revisitVertices), Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    @Override
+    public Collection<List<E>> find(GraphBase<V, E> graph, V start, V end, boolean revisitVertices) {
+        return (graph instanceof IndexedGraph<V, E> indexedGraph)
+            ? find(indexedGraph, start, end, revisitVertices)
+            : find(graph.getEdges(), start, end, revisitVertices);
+    }
+
+    @Override
+    public Stream<List<E>> stream(GraphBase<V, E> graph, V start, V end, boolean revisitVertices) {
+        return (graph instanceof IndexedGraph<V, E> indexedGraph)
+            ? stream(indexedGraph, start, end, revisitVertices)
+            : stream(graph.getEdges(), start, end, revisitVertices);
+    }
+
+    private Iterator<List<E>> iterator(IndexedGraph<V, E> graph, V start, V end, boolean revisitVertices) {
+        Search search = createSearch(graph, start, end, revisitVertices);
+        return (search == null || !expand(0)) ? Collections.emptyIterator() : search;
+    }
+
+    /**
+     * @return iterator that hands every incomplete trail that reaches given split depth to given splitter, instead of exploring it further.
+     *         The search stops as soon as given stop condition holds.
+     */
+    Iterator<List<E>> splitIterator(IndexedGraph<V, E> graph, V start, V end, boolean revisitVertices, int splitDepth, Consumer<int[]> splitter, BooleanSupplier stop) {
+        Search search = createSearch(graph, start, end, revisitVertices);
+        if (search == null || !expand(0)) {
+            return Collections.emptyIterator();
+        }
+        search.split(splitDepth, splitter);
+        search.stopWhen(stop);
+        return search;
+    }
+
+    /**
+     * @return iterator that explores only the trails that start with given edge indices, as handed to a splitter.
+     *         The search stops as soon as given stop condition holds.
+     */
+    Iterator<List<E>> prefixIterator(IndexedGraph<V, E> graph, V start, V end, boolean revisitVertices, int[] prefix, BooleanSupplier stop) {
+        Search search = createSearch(graph, start, end, revisitVertices);
+        search.descend(prefix);
+        search.stopWhen(stop);
+        return search;
+    }
+
+    private Search createSearch(IndexedGraph<V, E> graph, V start, V end, boolean revisitVertices) {
+        int startIndex = graph.getVertexIndex(start);
+        int endIndex = (end == null) ? NONE : graph.getVertexIndex(end);
+        if (startIndex == NONE || (end != null && endIndex == NONE)) {
+            return null;
+        }
+        return new Search(graph, startIndex, endIndex, revisitVertices);
+    }
+
+    /**
+     * @param graph
+     * @param vertex index
+     * @return number of edges that lead from given vertex
+     */
+    protected int getEdgeCount(IndexedGraph<V, E> graph, int vertex) {
+        return graph.getIncidenceCount(vertex);
+    }
+
+    /**
+     * @param graph
+     * @param vertex index
+     * @param n ranging from 0 to edge count of given vertex
+     * @return index of the n-th edge that leads from given vertex
+     */
+    protected int getEdge(IndexedGraph<V, E> graph, int vertex, int n) {
+        return graph.getIncidentEdgeIndex(vertex, n);
+    }
+
+    /**
+     * @param graph
+     * @param edge index
+     * @param vertex index
+     * @return index of the vertex that given edge leads to from given vertex
+     */
+    protected int next(IndexedGraph<V, E> graph, int edge, int vertex) {
+        return graph.getAdjacentVertexIndex(edge, vertex);
+    }
+
+    private class Search implements Iterator<List<E>> {
+
+        Search(IndexedGraph<V, E> graph, int start, int end, boolean revisitVertices) {
+            this.graph = graph;
+            this.start = start;
+            this.end = end;
+            this.revisitVertices = revisitVertices;
+            int maxDepth = graph.getEdgeCount() + 1;
+            vertices = new int[maxDepth];
+            cursors = new int[maxDepth];
+            edges = new int[maxDepth];
+            closing = new boolean[maxDepth];
+            states = new Object[maxDepth];
+            usedEdges = new BitSet(graph.getEdgeCount());
+            closedVertices = new BitSet(graph.getVertexCount());
+            trail = new ArrayList<>();
+            vertices[0] = start;
+            states[0] = initialState();
+            if (!revisitVertices) {
+                excludeLoops();
+            }
+        }
+
+        private void excludeLoops() {
+            for (int edge = 0; edge < graph.getEdgeCount(); ++edge) {
+                int vertex = graph.getFirstVertexIndex(edge);
+                if (vertex == graph.getSecondVertexIndex(edge) && vertex != start) {
+                    usedEdges.set(edge);
+                }
+            }
+        }
+
+        void split(int splitDepth, Consumer<int[]> splitter) {
+            this.splitDepth = splitDepth;
+            this.splitter = splitter;
+        }
+
+        void stopWhen(BooleanSupplier stop) {
+            this.stop = stop;
+        }
+
+        void descend(int[] prefix) {
+            for (int edge : prefix) {
+                trail.add(graph.getEdge(edge));
+                Object nextState = extendState(states[depth], graph.getEdge(edge));
+                push(edge, IndexedTrailFinder.this.next(graph, edge, vertices[depth]), nextState);
+            }
+            baseDepth = prefix.length;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next == null && !exhausted) {
+                next = search();
+                exhausted = next == null;
+            }
+            return next != null;
+        }
+
+        @Override
+        public List<E> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            List<E> foundTrail = next;
+            next = null;
+            return foundTrail;
+        }
+
+        private List<E> search() {
+            while (!isStopped() && !stop.getAsBoolean()) {
+                int edge = selectNextEdge();
+                if (edge != NONE) {
+                    edgeTried();
+                    int nextVertex = IndexedTrailFinder.this.next(graph, edge, vertices[depth]);
+                    trail.add(graph.getEdge(edge));
+                    Object nextState = extendState(states[depth], graph.getEdge(edge));
+                    List<E> foundTrail = null;
+                    if (acceptState(nextState) && restriction.test(trail)) {
+                        if ((end == NONE || nextVertex == end) && filter.test(trail)) {
+                            foundTrail = new ArrayList<>(trail);
+                            resultFound();
+                        }
+                        if (revisitVertices || nextVertex != end) {
+                            if (!expand(depth + 1)) {
+                                trail.removeLast();
+                            }
+                            else if (depth + 1 < splitDepth) {
+                                push(edge, nextVertex, nextState);
+                            }
+                            else {
+                                splitter.accept(prefix(edge));
+                                trail.removeLast();
+                            }
+                        }
+                        else {
+                            trail.removeLast();
+                        }
+                    }
+                    else {
+                        restrictionRejected();
+                        trail.removeLast();
+                    }
+                    if (foundTrail != null) {
+                        return foundTrail;
+                    }
+                }
+                else if (depth > baseDepth) {
+                    pop();
+                }
+                else {
+                    return null;
+                }
+            }
+            return null;
+        }
+
+        private int selectNextEdge() {
+            int vertex = vertices[depth];
+            int count = getEdgeCount(graph, vertex);
+            while (cursors[depth] < count) {
+                int edge = getEdge(graph, vertex, cursors[depth]++);
+                if (isAvailable(edge)) {
+                    return edge;
+                }
+            }
+            return NONE;
+        }
+
+        private int[] prefix(int edge) {
+            int[] prefix = Arrays.copyOf(edges, depth + 1);
+            prefix[depth] = edge;
+            return prefix;
+        }
+
+        private boolean isAvailable(int edge) {
+            return !usedEdges.get(edge)
+                && !closedVertices.get(graph.getFirstVertexIndex(edge))
+                && !closedVertices.get(graph.getSecondVertexIndex(edge));
+        }
+
+        /**
+         * Descend to next vertex. When finding paths all edges incident on the vertex being left become unavailable,
+         * except when leaving the start vertex of a cycle. Otherwise only the selected edge becomes unavailable.
+         */
+        private void push(int edge, int nextVertex, Object nextState) {
+            edges[depth] = edge;
+            closing[depth] = !revisitVertices && !(depth == 0 && start == end);
+            if (closing[depth]) {
+                closedVertices.set(vertices[depth]);
+            }
+            else {
+                usedEdges.set(edge);
+            }
+            depth++;
+            vertices[depth] = nextVertex;
+            states[depth] = nextState;
+            cursors[depth] = 0;
+        }
+
+        private void pop() {
+            depth--;
+            if (closing[depth]) {
+                closedVertices.clear(vertices[depth]);
+            }
+            else {
+                usedEdges.clear(edges[depth]);
+            }
+            states[depth + 1] = null;
+            trail.removeLast();
+        }
+
+        private final IndexedGraph<V, E> graph;
+        private final int start;
+        private final int end;
+        private final boolean revisitVertices;
+        private final int[] vertices;
+        private final int[] cursors;
+        private final int[] edges;
+        private final boolean[] closing;
+        private final Object[] states;
+        private final BitSet usedEdges;
+        private final BitSet closedVertices;
+        private final ArrayList<E> trail;
+        private int depth;
+        private int baseDepth;
+        private int splitDepth = Integer.MAX_VALUE;
+        private Consumer<int[]> splitter;
+        private BooleanSupplier stop = () -> false;
+        private List<E> next;
+        private boolean exhausted;
+    }
+
+    private Predicate<List<E>> restriction = allPass();
+    private Predicate<List<E>> filter = allPass();
+    private Predicate<Collection<List<E>>> limiter = nonePass();
+
+    private static final int NONE = -1;
+
+}
@@ -0,0 +1,85 @@
+/*
+** © Bart Kampers
+** This code may not be used for any purpose that harms humans (including
+** exploitation and discrimination), humanity, the environment or the
+** universe.
+*/
+
+package bka.math.graphs.finders;
+
+import bka.math.graphs.*;
+import java.util.*;
+
+/**
+ * Maximum flow from a source to a sink in a capacitated directed graph, as found by a MaximumFlowFinder, with a minimum cut.
+ *
+ * @param <V> vertex type
+ * @param <E> edge type
+ * @see bka.math.graphs.finders.MaximumFlowFinder
+ */
+public class MaximumFlow<V, E extends DirectedEdge<V>> {
+
+    MaximumFlow(IndexedGraph<V, E> graph, double value, double[] flows, BitSet sourceSide) {
+        this.graph = graph;
+        this.value = value;
+        this.flows = flows;
+        this.sourceSide = sourceSide;
+    }
+
+    /**
+     * @return total flow from source to sink, which equals the total capacity of the minimum cut
+     */
+    public double getValue() {
+        return value;
+    }
+
+    /**
+     * @param edge
+     * @return flow through given edge, 0 if the graph does not contain the edge
+     */
+    public double getFlow(E edge) {
+        int index = graph.getEdgeIndex(edge);
+        return (index < 0) ? 0.0 : flows[index];
+    }
+
+    /**
+     * @return all edges with flow, mapped to their flow
+     */
+    public Map<E, Double> getFlows() {
+        Map<E, Double> map = new HashMap<>();
+        for (int edge = 0; edge < flows.length; ++edge) {
+            if (flows[edge] > 0.0) {
+                map.put(graph.getEdge(edge), flows[edge]);
+            }
+        }
+        return map;
+    }
+
+    /**
+     * @return vertices that can be reached from the source in the residual graph. The other vertices form the sink side of the minimum cut.
+     */
+    public Set<V> getSourceSide() {
+        Set<V> vertices = new HashSet<>();
+        sourceSide.stream().forEach(vertex -> vertices.add(graph.getVertex(vertex)));
+        return vertices;
+    }
+
+    /**
+     * @return edges of the minimum cut, that is the edges that lead from the source side to the sink side
+     */
+    public Set<E> getCut() {
+        Set<E> cut = new HashSet<>();
+        for (int edge = 0; edge < flows.length; ++edge) {
+            if (sourceSide.get(graph.getFirstVertexIndex(edge)) && !sourceSide.get(graph.getSecondVertexIndex(edge))) {
+                cut.add(graph.getEdge(edge));
+            }
+        }
+        return cut;
+    }
+
+    private final IndexedGraph<V, E> graph;
+    private final double value;
+    private final double[] flows;
+    private final BitSet sourceSide;
+
+}
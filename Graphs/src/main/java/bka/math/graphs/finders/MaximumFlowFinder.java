@@ -0,0 +1,223 @@
+/*
+** © Bart Kampers
+** This code may not be used for any purpose that harms humans (including
+** exploitation and discrimination), humanity, the environment or the
+** universe.
+*/
+
+package bka.math.graphs.finders;
+
+import bka.math.graphs.*;
+import java.util.*;
+import java.util.function.*;
+
+/**
+ * Finds maximum flows and minimum cuts in directed graphs where every edge has a capacity.
+ * Uses Dinic's algorithm: a breadth first search builds a level graph of the residual graph,
+ * then a depth first search with a current arc per vertex saturates it with a blocking flow, until the sink cannot be reached anymore.
+ * The residual graph is stored in compressed sparse row arrays, with a forward and a backward arc for every edge and primitive residual capacities.
+ * Takes time proportional to V^2 * E in the worst case, and much less on most graphs.
+ *
+ * @param <V> vertex type
+ * @param <E> edge type
+ * @see <a href="https://en.wikipedia.org/wiki/Dinic%27s_algorithm">Dinic's algorithm on Wikipedia</a>
+ */
+public class MaximumFlowFinder<V, E extends DirectedEdge<V>> {
+
+    /**
+     * @param capacity function that supplies the capacity of edges, capacities must be finite and not negative
+     */
+    public MaximumFlowFinder(ToDoubleFunction<E> capacity) {
+        this.capacity = Objects.requireNonNull(capacity);
+    }
+
+    /**
+     * @param graph
+     * @param source
+     * @param sink
+     * @return maximum flow from source to sink in given graph
+     * @throws NoSuchElementException if graph does not contain source or sink
+     * @throws IllegalArgumentException if source equals sink or if an edge has a negative, infinite or NaN capacity
+     */
+    public MaximumFlow<V, E> find(GraphBase<V, E> graph, V source, V sink) {
+        IndexedGraph<V, E> indexedGraph = IndexedGraph.of(graph);
+        int sourceIndex = requireVertex(indexedGraph, source);
+        int sinkIndex = requireVertex(indexedGraph, sink);
+        if (sourceIndex == sinkIndex) {
+            throw new IllegalArgumentException("Source equals sink: " + source);
+        }
+        ResidualGraph residualGraph = new ResidualGraph(indexedGraph);
+        double value = 0.0;
+        while (residualGraph.buildLevels(sourceIndex, sinkIndex)) {
+            value += residualGraph.blockingFlow(sourceIndex, sinkIndex);
+        }
+        double[] flows = new double[indexedGraph.getEdgeCount()];
+        for (int edge = 0; edge < flows.length; ++edge) {
+            flows[edge] = residualGraph.residuals[backward(edge)];
+        }
+        BitSet sourceSide = new BitSet(indexedGraph.getVertexCount());
+        for (int vertex = 0; vertex < indexedGraph.getVertexCount(); ++vertex) {
+            if (residualGraph.levels[vertex] != NONE) {
+                sourceSide.set(vertex);
+            }
+        }
+        return new MaximumFlow<>(indexedGraph, value, flows, sourceSide);
+    }
+
+    private static int forward(int edge) {
+        return 2 * edge;
+    }
+
+    private static int backward(int edge) {
+        return 2 * edge + 1;
+    }
+
+    private static <V, E extends Edge<V>> int requireVertex(IndexedGraph<V, E> graph, V vertex) {
+        int index = graph.getVertexIndex(vertex);
+        if (index < 0) {
+            throw new NoSuchElementException(String.valueOf(vertex));
+        }
+        return index;
+    }
+
+    /**
+     * Arc 2e runs along edge e with the remaining capacity of the edge, arc 2e + 1 runs against edge e with the flow through the edge.
+     */
+    private class ResidualGraph {
+
+        ResidualGraph(IndexedGraph<V, E> graph) {
+            int vertexCount = graph.getVertexCount();
+            int edgeCount = graph.getEdgeCount();
+            heads = new int[2 * edgeCount];
+            residuals = new double[2 * edgeCount];
+            offsets = new int[vertexCount + 1];
+            for (int edge = 0; edge < edgeCount; ++edge) {
+                double edgeCapacity = capacity.applyAsDouble(graph.getEdge(edge));
+                if (!Double.isFinite(edgeCapacity) || edgeCapacity < 0.0) {
+                    throw new IllegalArgumentException("Illegal capacity " + edgeCapacity + " of edge " + graph.getEdge(edge));
+                }
+                int origin = graph.getFirstVertexIndex(edge);
+                int terminus = graph.getSecondVertexIndex(edge);
+                heads[forward(edge)] = terminus;
+                heads[backward(edge)] = origin;
+                if (origin != terminus) {
+                    residuals[forward(edge)] = edgeCapacity;
+                    offsets[origin + 1]++;
+                    offsets[terminus + 1]++;
+                }
+            }
+            for (int vertex = 1; vertex <= vertexCount; ++vertex) {
+                offsets[vertex] += offsets[vertex - 1];
+            }
+            arcs = new int[offsets[vertexCount]];
+            int[] fill = Arrays.copyOf(offsets, vertexCount);
+            for (int edge = 0; edge < edgeCount; ++edge) {
+                int origin = graph.getFirstVertexIndex(edge);
+                int terminus = graph.getSecondVertexIndex(edge);
+                if (origin != terminus) {
+                    arcs[fill[origin]++] = forward(edge);
+                    arcs[fill[terminus]++] = backward(edge);
+                }
+            }
+            levels = new int[vertexCount];
+            currentArcs = new int[vertexCount];
+            queue = new int[vertexCount];
+            path = new int[vertexCount];
+        }
+
+        /**
+         * @return true if sink can be reached from source in the residual graph
+         */
+        boolean buildLevels(int source, int sink) {
+            Arrays.fill(levels, NONE);
+            levels[source] = 0;
+            queue[0] = source;
+            int tail = 1;
+            for (int head = 0; head < tail; ++head) {
+                int vertex = queue[head];
+                for (int i = offsets[vertex]; i < offsets[vertex + 1]; ++i) {
+                    int arc = arcs[i];
+                    if (residuals[arc] > 0.0 && levels[heads[arc]] == NONE) {
+                        levels[heads[arc]] = levels[vertex] + 1;
+                        queue[tail++] = heads[arc];
+                    }
+                }
+            }
+            return levels[sink] != NONE;
+        }
+
+        /**
+         * Augment along paths of increasing level until no such path is left. A vertex whose arcs are exhausted is removed from the level graph.
+         * After augmenting, the search retreats to the tail of the first saturated arc of the path.
+         * @return added flow
+         */
+        double blockingFlow(int source, int sink) {
+            System.arraycopy(offsets, 0, currentArcs, 0, currentArcs.length);
+            double total = 0.0;
+            int depth = 0;
+            int vertex = source;
+            while (true) {
+                if (vertex == sink) {
+                    double bottleneck = Double.POSITIVE_INFINITY;
+                    for (int i = 0; i < depth; ++i) {
+                        bottleneck = Math.min(bottleneck, residuals[path[i]]);
+                    }
+                    int retreat = depth;
+                    for (int i = depth - 1; i >= 0; --i) {
+                        residuals[path[i]] -= bottleneck;
+                        residuals[path[i] ^ 1] += bottleneck;
+                        if (residuals[path[i]] <= 0.0) {
+                            retreat = i;
+                        }
+                    }
+                    total += bottleneck;
+                    depth = retreat;
+                    vertex = (depth == 0) ? source : heads[path[depth - 1]];
+                }
+                else if (advance(vertex)) {
+                    path[depth++] = arcs[currentArcs[vertex]];
+                    vertex = heads[path[depth - 1]];
+                }
+                else if (depth > 0) {
+                    levels[vertex] = NONE;
+                    depth--;
+                    vertex = (depth == 0) ? source : heads[path[depth - 1]];
+                    currentArcs[vertex]++;
+                }
+                else {
+                    return total;
+                }
+            }
+        }
+
+        /**
+         * Move the current arc of given vertex to the first arc that leads to the next level with residual capacity.
+         * @return false if the vertex has no such arc left
+         */
+        private boolean advance(int vertex) {
+            int end = offsets[vertex + 1];
+            while (currentArcs[vertex] < end) {
+                int arc = arcs[currentArcs[vertex]];
+                if (residuals[arc] > 0.0 && levels[heads[arc]] == levels[vertex] + 1) {
+                    return true;
+                }
+                currentArcs[vertex]++;
+            }
+            return false;
+        }
+
+        private final int[] offsets;
+        private final int[] arcs;
+        private final int[] heads;
+        private final double[] residuals;
+        private final int[] levels;
+        private final int[] currentArcs;
+        private final int[] queue;
+        private final int[] path;
+    }
+
+    private final ToDoubleFunction<E> capacity;
+
+    private static final int NONE = -1;
+
+}
@@ -23,7 +23,7 @@ public class NonRecursiveTrailFinder<V, E extends Edge<V>> extends AbstractTrail
 
     @Override
     public void setFilter(Predicate<List<E>> filter) {
-        this.filter = (filter == null) ? allPass() : filter;
+        this.filter = filter;
     }
 
     /**
@@ -37,32 +37,21 @@ public class NonRecursiveTrailFinder<V, E extends Edge<V>> extends AbstractTrail
     @Override
     public Collection<List<E>> find(Collection<E> graph, V start, V end, boolean revisitVertices) {
         Collection<List<E>> foundTrails = new ArrayList<>();
-        Deque<SearchStage> stack = new LinkedList<>();
-        SearchStage stage = new SearchStage(relevantEdges(revisitVertices, graph, start), start);
-        while (!limiter.test(foundTrails)) {
-            if (stage.selectNextEdge()) {
-                V nextVertex = stage.getAdjacentVertex();
-                TrailBuilder currentTrail = new TrailBuilder(stack, stage);
-                if (restriction.test(currentTrail.get())) {
-                    if ((end == null || nextVertex.equals(end)) && filter.test(currentTrail.get())) {
-                        foundTrails.add(currentTrail.get());
-                    }
-                    if (revisitVertices || !nextVertex.equals(end)) {
-                        stack.push(stage);
-                        stage = stage.createComplement(revisitVertices || isFirstInCircuit(stack, start, end), nextVertex);
-                    }
-                }
-            }
-            else if (!stack.isEmpty()) {
-                stage = stack.pop();
-            }
-            else {
-                return foundTrails;
-            }
+        Iterator<List<E>> iterator = new TrailIterator(graph, start, end, revisitVertices);
+        while (!limiter.test(foundTrails) && iterator.hasNext()) {
+            foundTrails.add(iterator.next());
         }
         return foundTrails;
     }
 
+    /**
+     * Resolutions are found on demand while the stream is consumed. The limiter does not apply to streams.
+     */
+    @Override
+    public Stream<List<E>> stream(Collection<E> graph, V start, V end, boolean revisitVertices) {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(new TrailIterator(graph, start, end, revisitVertices), Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
     private Collection<E> relevantEdges(boolean revisitVertices, Collection<E> graph, V start) {
         return (revisitVertices) ? graph : graph.stream().filter(relevant(start)).collect(Collectors.toList());
     }
@@ -75,41 +64,116 @@ public class NonRecursiveTrailFinder<V, E extends Edge<V>> extends AbstractTrail
         return stack.size() == 1 && start.equals(end);
     }
 
-    private class TrailBuilder {
+    private class TrailIterator implements Iterator<List<E>> {
+
+        TrailIterator(Collection<E> graph, V start, V end, boolean revisitVertices) {
+            this.start = start;
+            this.end = end;
+            this.revisitVertices = revisitVertices;
+            stage = (expand(0)) ? new SearchStage(relevantEdges(revisitVertices, graph, start), start, initialState()) : null;
+        }
 
-        public TrailBuilder(Deque<SearchStage> stack, SearchStage stage) {
-            this.stack = stack;
-            this.stage = stage;
+        @Override
+        public boolean hasNext() {
+            if (next == null && stage != null) {
+                next = search();
+            }
+            return next != null;
         }
 
-        public List<E> get() {
-            if (trail == null) {
-                trail = new ArrayList<>(stack.size() + 1);
-                for (Iterator<SearchStage> it = stack.descendingIterator(); it.hasNext();) {
-                    trail.add(it.next().getCurrent());
+        @Override
+        public List<E> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            List<E> trail = next;
+            next = null;
+            return trail;
+        }
+
+        private List<E> search() {
+            while (true) {
+                if (stage.selectNextEdge()) {
+                    edgeTried();
+                    V nextVertex = stage.getAdjacentVertex();
+                    Object nextState = extendState(stage.getState(), stage.getCurrent());
+                    List<E> trail = null;
+                    boolean accepted = acceptState(nextState);
+                    if (accepted && restriction != null) {
+                        trail = currentTrail();
+                        accepted = restriction.test(trail);
+                    }
+                    List<E> foundTrail = null;
+                    if (accepted) {
+                        if (end == null || nextVertex.equals(end)) {
+                            if (trail == null) {
+                                trail = currentTrail();
+                            }
+                            if (filter == null || filter.test(trail)) {
+                                foundTrail = trail;
+                                resultFound();
+                            }
+                        }
+                        if (revisitVertices || !nextVertex.equals(end)) {
+                            stack.push(stage);
+                            if (!expand(stack.size())) {
+                                stage = null;
+                                return foundTrail;
+                            }
+                            stage = stage.createComplement(revisitVertices || isFirstInCircuit(stack, start, end), nextVertex, nextState);
+                        }
+                    }
+                    else {
+                        restrictionRejected();
+                    }
+                    if (foundTrail != null) {
+                        return foundTrail;
+                    }
+                }
+                else if (!stack.isEmpty()) {
+                    stage = stack.pop();
+                }
+                else {
+                    stage = null;
+                    return null;
                 }
-                trail.add(stage.getCurrent());
             }
+        }
+
+        /**
+         * The trail is only built when a full trail predicate needs it or when it is a resolution.
+         * @return edges of the stages on the stack, followed by the current edge of the current stage
+         */
+        private List<E> currentTrail() {
+            List<E> trail = new ArrayList<>(stack.size() + 1);
+            for (Iterator<SearchStage> it = stack.descendingIterator(); it.hasNext();) {
+                trail.add(it.next().getCurrent());
+            }
+            trail.add(stage.getCurrent());
             return trail;
         }
 
-        private final Deque<SearchStage> stack;
-        private final SearchStage stage;
-        private List<E> trail;
+        private final V start;
+        private final V end;
+        private final boolean revisitVertices;
+        private final Deque<SearchStage> stack = new LinkedList<>();
+        private SearchStage stage;
+        private List<E> next;
 
     }
 
     private class SearchStage {
 
-        public SearchStage(Collection<E> subgraph, V from) {
+        public SearchStage(Collection<E> subgraph, V from, Object state) {
             this.subgraph = subgraph;
             this.from = from;
+            this.state = state;
             iterator = subgraph.stream().filter(EdgeUtil.isIncidentWith(from)).iterator();
         }
 
-        public SearchStage createComplement(boolean revisitVertices, V nextVertex) {
+        public SearchStage createComplement(boolean revisitVertices, V nextVertex, Object nextState) {
             Collection<E> remainingEdges = (revisitVertices) ? complement(subgraph, current) : complement(subgraph, from);
-            return new SearchStage(remainingEdges, nextVertex);
+            return new SearchStage(remainingEdges, nextVertex, nextState);
         }
 
         public boolean selectNextEdge() {
@@ -128,14 +192,25 @@ public class NonRecursiveTrailFinder<V, E extends Edge<V>> extends AbstractTrail
             return current;
         }
 
+        /**
+         * @return state of the incremental restriction for the trail leading to this stage
+         */
+        public Object getState() {
+            return state;
+        }
+
         private final Collection<E> subgraph;
         private final V from;
+        private final Object state;
         private final Iterator<E> iterator;
         private E current;
     }
 
-    private Predicate<List<E>> restriction = allPass();
-    private Predicate<List<E>> filter = allPass();
+    /**
+     * Null if no restriction or filter applies, so that trails need not be built to evaluate them.
+     */
+    private Predicate<List<E>> restriction;
+    private Predicate<List<E>> filter;
     private Predicate<Collection<List<E>>> limiter = nonePass();
 
 }
@@ -0,0 +1,212 @@
+/*
+** © Bart Kampers
+** This code may not be used for any purpose that harms humans (including
+** exploitation and discrimination), humanity, the environment or the
+** universe.
+*/
+
+package bka.math.graphs.finders;
+
+import bka.math.graphs.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.*;
+
+/**
+ * Trail finder that distributes the search of an IndexedTrailFinder over the threads of a ForkJoinPool.
+ * Trails are explored sequentially until they reach the split depth. From there on every incomplete trail is explored by a separate task,
+ * which idle threads may steal. The order of found resolutions is undefined.
+ * Restriction and filter are evaluated concurrently, so they must be thread safe. The limiter is evaluated under a lock.
+ * Tasks run on the threads of the pool. When the calling thread is interrupted or the limiter is satisfied, running tasks stop at their next step.
+ *
+ * @param <V> vertex type
+ * @param <E> edge type
+ * @see bka.math.graphs.finders.IndexedTrailFinder
+ */
+public class ParallelTrailFinder<V, E extends Edge<V>> extends AbstractTrailFinder<V, E> {
+
+    public ParallelTrailFinder() {
+        this(new IndexedTrailFinder<>());
+    }
+
+    public ParallelTrailFinder(IndexedTrailFinder<V, E> finder) {
+        this(finder, ForkJoinPool.commonPool());
+    }
+
+    public ParallelTrailFinder(IndexedTrailFinder<V, E> finder, ForkJoinPool pool) {
+        this.finder = Objects.requireNonNull(finder);
+        this.pool = Objects.requireNonNull(pool);
+    }
+
+    @Override
+    public void setRestriction(Predicate<List<E>> restriction) {
+        finder.setRestriction(restriction);
+    }
+
+    @Override
+    public <S> void setIncrementalRestriction(TrailAccumulator<S, E> restriction) {
+        finder.setIncrementalRestriction(restriction);
+    }
+
+    @Override
+    public void setFilter(Predicate<List<E>> filter) {
+        finder.setFilter(filter);
+    }
+
+    @Override
+    public void setMonitor(SearchMonitor monitor) {
+        this.monitor = monitor;
+        finder.setMonitor(monitor);
+    }
+
+    /**
+     * Set conditon the collections of found resolutions has to meet in order to stop searching for more resolutions
+     * @param limiter predicate
+     */
+    public void setLimiter(Predicate<Collection<List<E>>> limiter) {
+        this.limiter = (limiter == null) ? nonePass() : limiter;
+    }
+
+    /**
+     * @param splitDepth length of the incomplete trails from which on exploration is split into separate tasks
+     */
+    public void setSplitDepth(int splitDepth) {
+        if (splitDepth < 1) {
+            throw new IllegalArgumentException("Illegal split depth: " + splitDepth);
+        }
+        this.splitDepth = splitDepth;
+    }
+
+    @Override
+    public Collection<List<E>> find(Collection<E> graph, V start, V end, boolean revisitVertices) {
+        return find(new CompactGraph<>(graph), start, end, revisitVertices);
+    }
+
+    @Override
+    public Collection<List<E>> find(GraphBase<V, E> graph, V start, V end, boolean revisitVertices) {
+        return (graph instanceof IndexedGraph<V, E> indexedGraph)
+            ? find(indexedGraph, start, end, revisitVertices)
+            : find(graph.getEdges(), start, end, revisitVertices);
+    }
+
+    public Collection<List<E>> find(IndexedGraph<V, E> graph, V start, V end, boolean revisitVertices) {
+        Resolutions resolutions = new Resolutions();
+        if (Thread.currentThread().isInterrupted()) {
+            resolutions.interrupt();
+            return resolutions.get();
+        }
+        ForkJoinTask<Void> task = pool.submit(new SplitTask(graph, start, end, revisitVertices, resolutions));
+        try {
+            task.get();
+        }
+        catch (InterruptedException ex) {
+            resolutions.interrupt();
+            task.join();
+            Thread.currentThread().interrupt();
+        }
+        catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (ex.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(ex.getCause());
+        }
+        return resolutions.get();
+    }
+
+    private class SplitTask extends RecursiveAction {
+
+        SplitTask(IndexedGraph<V, E> graph, V start, V end, boolean revisitVertices, Resolutions resolutions) {
+            this.graph = graph;
+            this.start = start;
+            this.end = end;
+            this.revisitVertices = revisitVertices;
+            this.resolutions = resolutions;
+        }
+
+        @Override
+        protected void compute() {
+            Collection<PrefixTask> tasks = new ArrayList<>();
+            Iterator<List<E>> iterator = finder.splitIterator(graph, start, end, revisitVertices, splitDepth, prefix -> {
+                PrefixTask task = new PrefixTask(this, prefix);
+                task.fork();
+                tasks.add(task);
+            }, resolutions::isComplete);
+            while (!resolutions.isComplete() && iterator.hasNext()) {
+                resolutions.add(iterator.next());
+            }
+            tasks.forEach(ForkJoinTask::join);
+        }
+
+        private final IndexedGraph<V, E> graph;
+        private final V start;
+        private final V end;
+        private final boolean revisitVertices;
+        private final Resolutions resolutions;
+    }
+
+    private class PrefixTask extends RecursiveAction {
+
+        PrefixTask(SplitTask split, int[] prefix) {
+            this.split = split;
+            this.prefix = prefix;
+        }
+
+        @Override
+        protected void compute() {
+            if (split.resolutions.isComplete()) {
+                return;
+            }
+            Iterator<List<E>> iterator = finder.prefixIterator(split.graph, split.start, split.end, split.revisitVertices, prefix, split.resolutions::isComplete);
+            while (!split.resolutions.isComplete() && iterator.hasNext()) {
+                split.resolutions.add(iterator.next());
+            }
+        }
+
+        private final SplitTask split;
+        private final int[] prefix;
+    }
+
+    private class Resolutions {
+
+        Resolutions() {
+            complete = limiter.test(trails);
+        }
+
+        synchronized void add(List<E> trail) {
+            if (!complete) {
+                trails.add(trail);
+                complete = limiter.test(trails);
+            }
+        }
+
+        boolean isComplete() {
+            return complete;
+        }
+
+        void interrupt() {
+            complete = true;
+            if (monitor != null) {
+                monitor.stop(SearchMonitor.StopReason.INTERRUPTED);
+            }
+        }
+
+        synchronized Collection<List<E>> get() {
+            return trails;
+        }
+
+        private final Collection<List<E>> trails = new ArrayList<>();
+        private volatile boolean complete;
+    }
+
+    private final IndexedTrailFinder<V, E> finder;
+    private final ForkJoinPool pool;
+    private Predicate<Collection<List<E>>> limiter = nonePass();
+    private SearchMonitor monitor;
+    private int splitDepth = DEFAULT_SPLIT_DEPTH;
+
+    private static final int DEFAULT_SPLIT_DEPTH = 2;
+
+}
@@ -28,32 +28,41 @@ public class RecursiveTrailFinder<V, E extends Edge<V>> extends AbstractTrailFin
 
     @Override
     public Collection<List<E>> find(Collection<E> graph, V start, V end, boolean revisitVertices) {
+        if (!expand(0)) {
+            return new ArrayList<>();
+        }
         if (!revisitVertices) {
             Collection<E> noLoops = graph.stream().filter(edge -> !EdgeUtil.isLoop(edge) || edge.getVertices().contains(start)).collect(Collectors.toList());
-            return find(noLoops, start, end, revisitVertices, new LinkedList<>());
+            return find(noLoops, start, end, revisitVertices, new LinkedList<>(), initialState());
         }
-        return find(graph, start, end, revisitVertices, new LinkedList<>());
+        return find(graph, start, end, revisitVertices, new LinkedList<>(), initialState());
     }
 
-    private Collection<List<E>> find(Collection<E> graph, V start, V end, boolean revisitVertices, LinkedList<E> currentTrail) {
+    private Collection<List<E>> find(Collection<E> graph, V start, V end, boolean revisitVertices, LinkedList<E> currentTrail, Object state) {
         Collection<List<E>> allTrails = new ArrayList<>();
-        graph.stream().filter(from(start)).forEach(nextEdge -> {
+        graph.stream().filter(from(start)).takeWhile(edge -> !isStopped()).forEach(nextEdge -> {
+            edgeTried();
             currentTrail.add(nextEdge);
             V nextVertex = next(nextEdge, start);
-            if (restriction.test(currentTrail)) {
+            Object nextState = extendState(state, nextEdge);
+            if (acceptState(nextState) && restriction.test(currentTrail)) {
                 if ((end == null || nextVertex.equals(end)) && filter.test(currentTrail)) {
                     List<E> trail = new LinkedList<>();
                     trail.add(nextEdge);
                     allTrails.add(trail);
+                    resultFound();
                 }
-                if (revisitVertices || !nextVertex.equals(end)) {
+                if ((revisitVertices || !nextVertex.equals(end)) && expand(currentTrail.size())) {
                     Collection<E> remainingEdges = (revisitVertices || start.equals(end)) ? complement(graph, nextEdge) : complement(graph, start);
-                    find(remainingEdges, nextVertex, end, revisitVertices, currentTrail).forEach(trail -> {
+                    find(remainingEdges, nextVertex, end, revisitVertices, currentTrail, nextState).forEach(trail -> {
                         trail.addFirst(nextEdge);
                         allTrails.add(trail);
                     });
                 }
             }
+            else {
+                restrictionRejected();
+            }
             currentTrail.removeLast();
         });
         return allTrails;
@@ -0,0 +1,169 @@
+/*
+** © Bart Kampers
+** This code may not be used for any purpose that harms humans (including
+** exploitation and discrimination), humanity, the environment or the
+** universe.
+*/
+
+package bka.math.graphs.finders;
+
+import java.time.*;
+import java.util.concurrent.atomic.*;
+
+/**
+ * Counts the progress of a trail finder search and stops the search when a budget is exceeded.
+ * Budgets are checked cooperatively whenever the search expands a stage, that is whenever it descends to the next vertex of a trail.
+ * A stopped search ends as if all resolutions were found, so find returns the resolutions found so far and streams end.
+ * A search also stops when the searching thread is interrupted; its interrupt status is left set.
+ * Counters are thread safe, so a monitor can observe a parallel search. Use a new monitor, or reset it, for every search.
+ *
+ * @see bka.math.graphs.finders.TrailFinder#setMonitor(bka.math.graphs.finders.SearchMonitor)
+ */
+public class SearchMonitor {
+
+    public enum StopReason { TIME_LIMIT, STAGE_LIMIT, INTERRUPTED }
+
+    /**
+     * @param timeLimit maximum duration of a search, measured from the first stage it expands; null for no limit
+     */
+    public void setTimeLimit(Duration timeLimit) {
+        this.timeLimit = (timeLimit == null) ? NO_LIMIT : timeLimit.toNanos();
+    }
+
+    /**
+     * @param stageLimit maximum number of stages a search may expand
+     */
+    public void setStageLimit(long stageLimit) {
+        if (stageLimit < 0) {
+            throw new IllegalArgumentException("Illegal stage limit: " + stageLimit);
+        }
+        this.stageLimit = stageLimit;
+    }
+
+    /**
+     * Clear all counters and the stop reason, and restart the time limit.
+     */
+    public void reset() {
+        stagesExpanded.set(0);
+        edgesTried.reset();
+        restrictionRejections.reset();
+        resultCount.reset();
+        maxDepth.set(0);
+        startTime = NOT_STARTED;
+        stopReason = null;
+    }
+
+    /**
+     * @return number of stages expanded, including the stage of the start vertex
+     */
+    public long getStagesExpanded() {
+        return stagesExpanded.get();
+    }
+
+    /**
+     * @return number of edges that were selected to extend a trail
+     */
+    public long getEdgesTried() {
+        return edgesTried.sum();
+    }
+
+    /**
+     * @return number of extended trails that were abandoned because they did not meet the restriction or incremental restriction
+     */
+    public long getRestrictionRejections() {
+        return restrictionRejections.sum();
+    }
+
+    /**
+     * @return number of resolutions found
+     */
+    public long getResultCount() {
+        return resultCount.sum();
+    }
+
+    /**
+     * @return length of the longest trail that was expanded
+     */
+    public int getMaxDepth() {
+        return maxDepth.get();
+    }
+
+    /**
+     * @return true if the search was stopped before it was complete
+     */
+    public boolean isStopped() {
+        return stopReason != null;
+    }
+
+    /**
+     * @return why the search was stopped, null if it was not stopped
+     */
+    public StopReason getStopReason() {
+        return stopReason;
+    }
+
+    /**
+     * Count a stage at given depth and check the budgets.
+     * @return false if the search must stop
+     */
+    boolean expand(int depth) {
+        if (stopReason != null) {
+            return false;
+        }
+        long count = stagesExpanded.incrementAndGet();
+        if (count == 1) {
+            startTime = System.nanoTime();
+        }
+        if (depth > maxDepth.get()) {
+            maxDepth.accumulateAndGet(depth, Math::max);
+        }
+        if (count > stageLimit) {
+            stop(StopReason.STAGE_LIMIT);
+        }
+        else if (timeLimit != NO_LIMIT && (count & TIME_CHECK_MASK) == 0 && isTimeUp()) {
+            stop(StopReason.TIME_LIMIT);
+        }
+        else if (Thread.currentThread().isInterrupted()) {
+            stop(StopReason.INTERRUPTED);
+        }
+        return stopReason == null;
+    }
+
+    void edgeTried() {
+        edgesTried.increment();
+    }
+
+    void restrictionRejected() {
+        restrictionRejections.increment();
+    }
+
+    void resultFound() {
+        resultCount.increment();
+    }
+
+    private boolean isTimeUp() {
+        long start = startTime;
+        return start != NOT_STARTED && System.nanoTime() - start > timeLimit;
+    }
+
+    void stop(StopReason reason) {
+        if (stopReason == null) {
+            stopReason = reason;
+        }
+    }
+
+    private final AtomicLong stagesExpanded = new AtomicLong();
+    private final LongAdder edgesTried = new LongAdder();
+    private final LongAdder restrictionRejections = new LongAdder();
+    private final LongAdder resultCount = new LongAdder();
+    private final AtomicInteger maxDepth = new AtomicInteger();
+    private long timeLimit = NO_LIMIT;
+    private long stageLimit = Long.MAX_VALUE;
+    private volatile long startTime = NOT_STARTED;
+    private volatile StopReason stopReason;
+
+    private static final long NO_LIMIT = Long.MAX_VALUE;
+    private static final long NOT_STARTED = Long.MIN_VALUE;
+    private static final long TIME_CHECK_MASK = 0x3F;
+
+}
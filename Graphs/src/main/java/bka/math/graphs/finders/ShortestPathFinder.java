@@ -0,0 +1,132 @@
+/*
+** © Bart Kampers
+** This code may not be used for any purpose that harms humans (including
+** exploitation and discrimination), humanity, the environment or the
+** universe.
+*/
+
+package bka.math.graphs.finders;
+
+import bka.math.graphs.*;
+import bka.math.graphs.utils.*;
+import java.util.*;
+import java.util.function.*;
+
+/**
+ * Finds shortest paths in weighted graphs, using Dijkstra's algorithm, or A* if a heuristic is set.
+ * Edges of type DirectedEdge are only traversed from origin to terminus, other edges are traversed both ways.
+ * Edge weights must not be negative.
+ *
+ * @param <V> vertex type
+ * @param <E> edge type
+ * @see <a href="https://en.wikipedia.org/wiki/Dijkstra%27s_algorithm">Dijkstra's algorithm on Wikipedia</a>
+ * @see <a href="https://en.wikipedia.org/wiki/A*_search_algorithm">A* search algorithm on Wikipedia</a>
+ */
+public class ShortestPathFinder<V, E extends Edge<V>> {
+
+    /**
+     * @param weight function that supplies the weight (length, cost) of edges
+     */
+    public ShortestPathFinder(ToDoubleFunction<E> weight) {
+        this.weight = Objects.requireNonNull(weight);
+    }
+
+    /**
+     * Set the heuristic that estimates the distance between two vertices. Finding a path between two vertices then uses A*.
+     * The heuristic must never overestimate the distance, otherwise found paths may not be shortest.
+     *
+     * @param heuristic applied to a vertex and the end vertex, if null Dijkstra's algorithm is used.
+     */
+    public void setHeuristic(ToDoubleBiFunction<V, V> heuristic) {
+        this.heuristic = heuristic;
+    }
+
+    /**
+     * Find a shortest path between two vertices in a graph.
+     *
+     * @param graph
+     * @param start
+     * @param end
+     * @return edges of a shortest path from start to end, empty if start equals end or if end cannot be reached from start.
+     * @throws NoSuchElementException if graph does not contain start or end
+     * @throws IllegalArgumentException if a traversed edge has a negative weight
+     */
+    public List<E> find(GraphBase<V, E> graph, V start, V end) {
+        IndexedGraph<V, E> indexedGraph = IndexedGraph.of(graph);
+        int target = requireVertex(indexedGraph, end);
+        return search(indexedGraph, requireVertex(indexedGraph, start), target).getPath(end);
+    }
+
+    /**
+     * Find shortest paths from given vertex to all vertices in a graph.
+     *
+     * @param graph
+     * @param start
+     * @return shortest path tree of given start vertex
+     * @throws NoSuchElementException if graph does not contain start
+     * @throws IllegalArgumentException if a traversed edge has a negative weight
+     */
+    public ShortestPathTree<V, E> findAll(GraphBase<V, E> graph, V start) {
+        IndexedGraph<V, E> indexedGraph = IndexedGraph.of(graph);
+        return search(indexedGraph, requireVertex(indexedGraph, start), NONE);
+    }
+
+    private ShortestPathTree<V, E> search(IndexedGraph<V, E> graph, int source, int target) {
+        int vertexCount = graph.getVertexCount();
+        double[] distances = new double[vertexCount];
+        int[] predecessors = new int[vertexCount];
+        Arrays.fill(distances, Double.POSITIVE_INFINITY);
+        Arrays.fill(predecessors, NONE);
+        IndexedDoubleHeap queue = new IndexedDoubleHeap(vertexCount);
+        distances[source] = 0.0;
+        queue.put(source, estimate(graph, source, target));
+        while (!queue.isEmpty()) {
+            int vertex = queue.poll();
+            if (vertex == target) {
+                break;
+            }
+            for (int i = 0; i < graph.getIncidenceCount(vertex); ++i) {
+                int edge = graph.getIncidentEdgeIndex(vertex, i);
+                if (!graph.isDirected(edge) || graph.getFirstVertexIndex(edge) == vertex) {
+                    int next = graph.getAdjacentVertexIndex(edge, vertex);
+                    double distance = distances[vertex] + weight(graph, edge);
+                    if (distance < distances[next]) {
+                        distances[next] = distance;
+                        predecessors[next] = edge;
+                        queue.put(next, distance + estimate(graph, next, target));
+                    }
+                }
+            }
+        }
+        return new ShortestPathTree<>(graph, source, distances, predecessors);
+    }
+
+    private double weight(IndexedGraph<V, E> graph, int edge) {
+        double edgeWeight = weight.applyAsDouble(graph.getEdge(edge));
+        if (!(edgeWeight >= 0.0)) {
+            throw new IllegalArgumentException("Illegal weight " + edgeWeight + " of edge " + graph.getEdge(edge));
+        }
+        return edgeWeight;
+    }
+
+    private double estimate(IndexedGraph<V, E> graph, int vertex, int target) {
+        if (heuristic == null || target == NONE) {
+            return 0.0;
+        }
+        return heuristic.applyAsDouble(graph.getVertex(vertex), graph.getVertex(target));
+    }
+
+    private static <V, E extends Edge<V>> int requireVertex(IndexedGraph<V, E> graph, V vertex) {
+        int index = graph.getVertexIndex(vertex);
+        if (index < 0) {
+            throw new NoSuchElementException(String.valueOf(vertex));
+        }
+        return index;
+    }
+
+    private final ToDoubleFunction<E> weight;
+    private ToDoubleBiFunction<V, V> heuristic;
+
+    private static final int NONE = -1;
+
+}
@@ -0,0 +1,75 @@
+/*
+** © Bart Kampers
+** This code may not be used for any purpose that harms humans (including
+** exploitation and discrimination), humanity, the environment or the
+** universe.
+*/
+
+package bka.math.graphs.finders;
+
+import bka.math.graphs.*;
+import java.util.*;
+
+/**
+ * Shortest paths from one source vertex to the vertices of a graph, as found by a ShortestPathFinder.
+ *
+ * @param <V> vertex type
+ * @param <E> edge type
+ * @see bka.math.graphs.finders.ShortestPathFinder
+ */
+public class ShortestPathTree<V, E extends Edge<V>> {
+
+    ShortestPathTree(IndexedGraph<V, E> graph, int source, double[] distances, int[] predecessors) {
+        this.graph = graph;
+        this.source = source;
+        this.distances = distances;
+        this.predecessors = predecessors;
+    }
+
+    public V getSource() {
+        return graph.getVertex(source);
+    }
+
+    /**
+     * @param vertex
+     * @return true if a path from the source to given vertex was found
+     */
+    public boolean isReachable(V vertex) {
+        int index = graph.getVertexIndex(vertex);
+        return index >= 0 && distances[index] < Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * @param vertex
+     * @return total weight of the shortest path from the source to given vertex, positive infinity if no path was found
+     */
+    public double getDistance(V vertex) {
+        int index = graph.getVertexIndex(vertex);
+        return (index < 0) ? Double.POSITIVE_INFINITY : distances[index];
+    }
+
+    /**
+     * @param vertex
+     * @return edges of the shortest path from the source to given vertex, empty if given vertex is the source or if no path was found.
+     * @see bka.math.graphs.utils.GraphUtil#vertexPath(java.util.List, java.lang.Object)
+     */
+    public List<E> getPath(V vertex) {
+        int index = graph.getVertexIndex(vertex);
+        if (index < 0 || distances[index] == Double.POSITIVE_INFINITY) {
+            return Collections.emptyList();
+        }
+        LinkedList<E> path = new LinkedList<>();
+        while (index != source) {
+            int edge = predecessors[index];
+            path.addFirst(graph.getEdge(edge));
+            index = graph.getAdjacentVertexIndex(edge, index);
+        }
+        return new ArrayList<>(path);
+    }
+
+    private final IndexedGraph<V, E> graph;
+    private final int source;
+    private final double[] distances;
+    private final int[] predecessors;
+
+}
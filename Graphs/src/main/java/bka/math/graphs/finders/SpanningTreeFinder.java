@@ -0,0 +1,126 @@
+/*
+** © Bart Kampers
+** This code may not be used for any purpose that harms humans (including
+** exploitation and discrimination), humanity, the environment or the
+** universe.
+*/
+
+package bka.math.graphs.finders;
+
+import bka.math.graphs.*;
+import bka.math.graphs.utils.*;
+import java.util.*;
+import java.util.function.*;
+
+/**
+ * Finds minimum spanning forests of weighted undirected graphs, that is a minimum spanning tree for every connected component.
+ * Kruskal's algorithm takes edges in order of increasing weight from a heap and keeps the ones that join two trees, tracked in a union-find structure.
+ * Prim's algorithm grows every tree from a vertex, using a heap of vertices keyed by the weight of their cheapest edge into the tree.
+ * Both take time proportional to E log V, where E is the number of edges and V the number of vertices.
+ *
+ * @param <V> vertex type
+ * @param <E> edge type
+ * @see <a href="https://en.wikipedia.org/wiki/Kruskal%27s_algorithm">Kruskal's algorithm on Wikipedia</a>
+ * @see <a href="https://en.wikipedia.org/wiki/Prim%27s_algorithm">Prim's algorithm on Wikipedia</a>
+ */
+public class SpanningTreeFinder<V, E extends UndirectedEdge<V>> {
+
+    public enum Algorithm { KRUSKAL, PRIM }
+
+    /**
+     * @param weight function that supplies the weight (length, cost) of edges
+     */
+    public SpanningTreeFinder(ToDoubleFunction<E> weight) {
+        this.weight = Objects.requireNonNull(weight);
+    }
+
+    /**
+     * @param algorithm to use, Kruskal's algorithm if null
+     */
+    public void setAlgorithm(Algorithm algorithm) {
+        this.algorithm = (algorithm == null) ? Algorithm.KRUSKAL : algorithm;
+    }
+
+    /**
+     * @param graph
+     * @return minimum spanning forest of given graph, containing all vertices of the graph
+     * @throws IllegalArgumentException if the weight of an edge is not a number
+     */
+    public ImmutableGraph<V, E> find(GraphBase<V, E> graph) {
+        IndexedGraph<V, E> indexedGraph = IndexedGraph.of(graph);
+        double[] weights = weights(indexedGraph);
+        int[] forest = (algorithm == Algorithm.PRIM) ? prim(indexedGraph, weights) : kruskal(indexedGraph, weights);
+        List<E> edges = new ArrayList<>(forest.length);
+        for (int edge : forest) {
+            edges.add(indexedGraph.getEdge(edge));
+        }
+        return new ImmutableGraph<>(indexedGraph.getVertices(), edges);
+    }
+
+    private int[] kruskal(IndexedGraph<V, E> graph, double[] weights) {
+        IndexedDoubleHeap queue = new IndexedDoubleHeap(graph.getEdgeCount());
+        for (int edge = 0; edge < graph.getEdgeCount(); ++edge) {
+            queue.put(edge, weights[edge]);
+        }
+        UnionFind trees = new UnionFind(graph.getVertexCount());
+        for (int vertex = 0; vertex < graph.getVertexCount(); ++vertex) {
+            trees.add();
+        }
+        int[] forest = new int[Math.max(graph.getVertexCount() - 1, 0)];
+        int size = 0;
+        while (!queue.isEmpty() && trees.getSetCount() > 1) {
+            int edge = queue.poll();
+            if (trees.union(graph.getFirstVertexIndex(edge), graph.getSecondVertexIndex(edge))) {
+                forest[size++] = edge;
+            }
+        }
+        return Arrays.copyOf(forest, size);
+    }
+
+    private int[] prim(IndexedGraph<V, E> graph, double[] weights) {
+        IndexedDoubleHeap queue = new IndexedDoubleHeap(graph.getVertexCount());
+        int[] cheapestEdges = new int[graph.getVertexCount()];
+        BitSet inForest = new BitSet(graph.getVertexCount());
+        int[] forest = new int[Math.max(graph.getVertexCount() - 1, 0)];
+        int size = 0;
+        for (int root = 0; root < graph.getVertexCount(); ++root) {
+            if (!inForest.get(root)) {
+                cheapestEdges[root] = NONE;
+                queue.put(root, Double.NEGATIVE_INFINITY);
+                while (!queue.isEmpty()) {
+                    int vertex = queue.poll();
+                    inForest.set(vertex);
+                    if (cheapestEdges[vertex] != NONE) {
+                        forest[size++] = cheapestEdges[vertex];
+                    }
+                    for (int i = 0; i < graph.getIncidenceCount(vertex); ++i) {
+                        int edge = graph.getIncidentEdgeIndex(vertex, i);
+                        int next = graph.getAdjacentVertexIndex(edge, vertex);
+                        if (!inForest.get(next) && (!queue.contains(next) || weights[edge] < queue.getKey(next))) {
+                            cheapestEdges[next] = edge;
+                            queue.put(next, weights[edge]);
+                        }
+                    }
+                }
+            }
+        }
+        return Arrays.copyOf(forest, size);
+    }
+
+    private double[] weights(IndexedGraph<V, E> graph) {
+        double[] weights = new double[graph.getEdgeCount()];
+        for (int edge = 0; edge < weights.length; ++edge) {
+            weights[edge] = weight.applyAsDouble(graph.getEdge(edge));
+            if (Double.isNaN(weights[edge])) {
+                throw new IllegalArgumentException("Illegal weight " + weights[edge] + " of edge " + graph.getEdge(edge));
+            }
+        }
+        return weights;
+    }
+
+    private final ToDoubleFunction<E> weight;
+    private Algorithm algorithm = Algorithm.KRUSKAL;
+
+    private static final int NONE = -1;
+
+}
@@ -0,0 +1,40 @@
+/*
+** © Bart Kampers
+** This code may not be used for any purpose that harms humans (including
+** exploitation and discrimination), humanity, the environment or the
+** universe.
+*/
+
+package bka.math.graphs.finders;
+
+/**
+ * Restriction on incomplete trails that is evaluated incrementally.
+ * Trail finders keep a state for every incomplete trail and extend it by one edge at a time,
+ * so the restriction costs constant time per explored edge instead of time proportional to the trail length.
+ * States are kept while exploring, so extend must not modify the given state but return a new or immutable one.
+ *
+ * @param <S> state type, for instance the total length of a trail
+ * @param <E> edge type
+ * @see bka.math.graphs.finders.TrailFinder#setIncrementalRestriction(bka.math.graphs.finders.TrailAccumulator)
+ */
+public interface TrailAccumulator<S, E> {
+
+    /**
+     * @return state of the empty trail
+     */
+    S initial();
+
+    /**
+     * @param state of an incomplete trail
+     * @param edge that extends the trail
+     * @return state of the extended trail
+     */
+    S extend(S state, E edge);
+
+    /**
+     * @param state of an incomplete trail
+     * @return true if the trail meets the restriction and exploring may continue
+     */
+    boolean accept(S state);
+
+}
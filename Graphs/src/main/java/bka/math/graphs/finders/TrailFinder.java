@@ -10,6 +10,7 @@ package bka.math.graphs.finders;
 import bka.math.graphs.*;
 import java.util.*;
 import java.util.function.*;
+import java.util.stream.*;
 
 
 public interface TrailFinder<V, E extends Edge<V>> {
@@ -27,6 +28,52 @@ public interface TrailFinder<V, E extends Edge<V>> {
      */
     Collection<List<E>> find(Collection<E> graph, V start, V end, boolean revisitVertices);
 
+    /**
+     * Stream all trails or paths in given graph, from the given vertex edge to the given end vertex.
+     * Implementations that search with an explicit stack find resolutions on demand, so the stream can be limited or abandoned early.
+     * This default implementation finds all resolutions before streaming them.
+     *
+     * @param graph as a collection of edges
+     * @param start
+     * @param end optional, null if omitted
+     * @param revisitVertices true if all trails may be included in the resolution, false if only paths may be included.
+     * @return stream of resolutions
+     * @see #find(java.util.Collection, java.lang.Object, java.lang.Object, boolean)
+     */
+    default Stream<List<E>> stream(Collection<E> graph, V start, V end, boolean revisitVertices) {
+        return find(graph, start, end, revisitVertices).stream();
+    }
+
+    /**
+     * Find all trails or paths in given graph. Implementations may use the structure of the graph;
+     * this default implementation finds in the edges of the graph.
+     *
+     * @param graph
+     * @param start
+     * @param end optional, null if omitted
+     * @param revisitVertices true if all trails may be included in the resolution, false if only paths may be included.
+     * @return found resolutions
+     * @see #find(java.util.Collection, java.lang.Object, java.lang.Object, boolean)
+     */
+    default Collection<List<E>> find(GraphBase<V, E> graph, V start, V end, boolean revisitVertices) {
+        return find(graph.getEdges(), start, end, revisitVertices);
+    }
+
+    /**
+     * Stream all trails or paths in given graph. Implementations may use the structure of the graph;
+     * this default implementation streams from the edges of the graph.
+     *
+     * @param graph
+     * @param start
+     * @param end optional, null if omitted
+     * @param revisitVertices true if all trails may be included in the resolution, false if only paths may be included.
+     * @return stream of resolutions
+     * @see #stream(java.util.Collection, java.lang.Object, java.lang.Object, boolean)
+     */
+    default Stream<List<E>> stream(GraphBase<V, E> graph, V start, V end, boolean revisitVertices) {
+        return stream(graph.getEdges(), start, end, revisitVertices);
+    }
+
     /**
      * Set condition incomplete trails have to meet in order to continue exploring
      *
@@ -34,6 +81,18 @@ public interface TrailFinder<V, E extends Edge<V>> {
      */
     void setRestriction(Predicate<List<E>> restriction);
 
+    /**
+     * Set condition incomplete trails have to meet in order to continue exploring, evaluated incrementally.
+     * Applies in addition to the restriction predicate.
+     *
+     * @param <S> state type
+     * @param restriction, if null no incremental restriction applies
+     * @throws UnsupportedOperationException if this trail finder does not support incremental restrictions
+     */
+    default <S> void setIncrementalRestriction(TrailAccumulator<S, E> restriction) {
+        throw new UnsupportedOperationException("Incremental restrictions not supported by " + getClass().getName());
+    }
+
     /**
      * Set conditon trails have to meet in order to be included in the collection of resolutions
      *
@@ -41,4 +100,14 @@ public interface TrailFinder<V, E extends Edge<V>> {
      */
     void setFilter(Predicate<List<E>> filter);
 
+    /**
+     * Set monitor that counts the progress of searches and stops searches that exceed its budgets
+     *
+     * @param monitor, if null searches are not monitored. Searches stop when the searching thread is interrupted in any case.
+     * @throws UnsupportedOperationException if this trail finder does not support monitors
+     */
+    default void setMonitor(SearchMonitor monitor) {
+        throw new UnsupportedOperationException("Monitors not supported by " + getClass().getName());
+    }
+
 }
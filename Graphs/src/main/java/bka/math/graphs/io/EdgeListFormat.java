@@ -0,0 +1,36 @@
+/*
+** © Bart Kampers
+** This code may not be used for any purpose that harms humans (including
+** exploitation and discrimination), humanity, the environment or the
+** universe.
+*/
+
+package bka.math.graphs.io;
+
+/**
+ * Layout of delimited edge list files. Text is UTF-8 encoded.
+ * <pre>
+ * line     first vertex key, delimiter, second vertex key [, delimiter, weight] line end
+ * </pre>
+ * The first key of a directed edge is its origin. Lines may end with a carriage return before the line feed.
+ * Empty lines and lines starting with the comment character are ignored.
+ */
+final class EdgeListFormat {
+
+    private EdgeListFormat() {
+    }
+
+    static void checkDelimiter(char delimiter) {
+        if (delimiter >= 0x80 || delimiter == LINE_FEED || delimiter == CARRIAGE_RETURN || delimiter == COMMENT) {
+            throw new IllegalArgumentException("Illegal delimiter: " + (int) delimiter);
+        }
+    }
+
+    static final char DEFAULT_DELIMITER = '\t';
+    static final char COMMENT = '#';
+    static final char LINE_FEED = '\n';
+    static final char CARRIAGE_RETURN = '\r';
+    static final double DEFAULT_WEIGHT = 1.0;
+    static final int BUFFER_SIZE = 1 << 16;
+
+}
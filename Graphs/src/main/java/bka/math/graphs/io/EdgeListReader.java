@@ -0,0 +1,170 @@
+/*
+** © Bart Kampers
+** This code may not be used for any purpose that harms humans (including
+** exploitation and discrimination), humanity, the environment or the
+** universe.
+*/
+
+package bka.math.graphs.io;
+
+import bka.math.graphs.*;
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.charset.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.function.*;
+
+/**
+ * Reads delimited edge lists, one edge per line, with an optional weight column.
+ * Lines are read through a fixed size buffer and handed over one by one, so no edge list is materialized
+ * and heap usage does not depend on the size of the file. Edges without weight have weight 1.
+ * @see bka.math.graphs.io.EdgeListWriter
+ * @param <V> Vertex type
+ */
+public class EdgeListReader<V> {
+
+    /**
+     * Receives the edges of an edge list in the order of the file.
+     * @param <V> Vertex type
+     */
+    @FunctionalInterface
+    public interface EdgeHandler<V> {
+
+        void edge(V first, V second, double weight);
+
+    }
+
+    /**
+     * Creates the edges of an edge list.
+     * @param <V> Vertex type
+     * @param <E> Edge type
+     */
+    @FunctionalInterface
+    public interface EdgeFactory<V, E extends Edge<V>> {
+
+        E create(V first, V second, double weight);
+
+    }
+
+    /**
+     * @param keyDecoder function that returns the vertex of a key
+     */
+    public EdgeListReader(Function<String, V> keyDecoder) {
+        this.keyDecoder = Objects.requireNonNull(keyDecoder);
+    }
+
+    /**
+     * @param delimiter ASCII character that separates the columns, tab by default
+     * @throws IllegalArgumentException if given delimiter is not ASCII, a line break or the comment character
+     */
+    public void setDelimiter(char delimiter) {
+        EdgeListFormat.checkDelimiter(delimiter);
+        this.delimiter = (byte) delimiter;
+    }
+
+    /**
+     * Add the edges of given file to given graph.
+     * @param <E> Edge type
+     * @param path
+     * @param graph
+     * @param edgeFactory creating an edge from its first and second vertex and its weight
+     * @throws IOException if the file cannot be read or contains an invalid line
+     */
+    public <E extends Edge<V>> void read(Path path, MutableGraph<V, E> graph, EdgeFactory<V, ? extends E> edgeFactory) throws IOException {
+        read(path, (first, second, weight) -> graph.addEdge(edgeFactory.create(first, second, weight)));
+    }
+
+    /**
+     * @param path
+     * @param handler receiving every edge of given file
+     * @throws IOException if the file cannot be read or contains an invalid line
+     */
+    public void read(Path path, EdgeHandler<V> handler) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            read(channel, handler);
+        }
+    }
+
+    /**
+     * Read given channel until its end. Lines longer than the buffer make the buffer grow.
+     * @param channel
+     * @param handler receiving every edge read from given channel
+     * @throws IOException if the channel cannot be read or contains an invalid line
+     */
+    public void read(ReadableByteChannel channel, EdgeHandler<V> handler) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(EdgeListFormat.BUFFER_SIZE);
+        long lineNumber = 0;
+        int scanned = 0;
+        boolean endOfStream = false;
+        while (!endOfStream) {
+            endOfStream = channel.read(buffer) < 0;
+            byte[] bytes = buffer.array();
+            int lineStart = 0;
+            for (int i = scanned; i < buffer.position(); ++i) {
+                if (bytes[i] == EdgeListFormat.LINE_FEED) {
+                    parse(bytes, lineStart, i, ++lineNumber, handler);
+                    lineStart = i + 1;
+                }
+            }
+            if (endOfStream) {
+                if (lineStart < buffer.position()) {
+                    parse(bytes, lineStart, buffer.position(), ++lineNumber, handler);
+                }
+            }
+            else {
+                buffer.flip().position(lineStart);
+                buffer.compact();
+                scanned = buffer.position();
+                if (!buffer.hasRemaining()) {
+                    buffer = ByteBuffer.allocate(buffer.capacity() * 2).put(buffer.flip());
+                }
+            }
+        }
+    }
+
+    private void parse(byte[] bytes, int from, int to, long lineNumber, EdgeHandler<V> handler) throws IOException {
+        int end = (to > from && bytes[to - 1] == EdgeListFormat.CARRIAGE_RETURN) ? to - 1 : to;
+        if (end == from || bytes[from] == EdgeListFormat.COMMENT) {
+            return;
+        }
+        int firstDelimiter = indexOfDelimiter(bytes, from, end);
+        int secondDelimiter = indexOfDelimiter(bytes, firstDelimiter + 1, end);
+        if (firstDelimiter == from || firstDelimiter + 1 >= secondDelimiter || indexOfDelimiter(bytes, secondDelimiter + 1, end) < end) {
+            throw invalidLine(bytes, from, end, lineNumber);
+        }
+        V first = keyDecoder.apply(new String(bytes, from, firstDelimiter - from, StandardCharsets.UTF_8));
+        V second = keyDecoder.apply(new String(bytes, firstDelimiter + 1, secondDelimiter - firstDelimiter - 1, StandardCharsets.UTF_8));
+        double weight = EdgeListFormat.DEFAULT_WEIGHT;
+        if (secondDelimiter < end) {
+            try {
+                weight = Double.parseDouble(new String(bytes, secondDelimiter + 1, end - secondDelimiter - 1, StandardCharsets.US_ASCII));
+            }
+            catch (NumberFormatException ex) {
+                throw invalidLine(bytes, from, end, lineNumber);
+            }
+        }
+        handler.edge(first, second, weight);
+    }
+
+    /**
+     * @return index of the first delimiter from given index, given end if there is none
+     */
+    private int indexOfDelimiter(byte[] bytes, int from, int end) {
+        for (int i = from; i < end; ++i) {
+            if (bytes[i] == delimiter) {
+                return i;
+            }
+        }
+        return end;
+    }
+
+    private static IOException invalidLine(byte[] bytes, int from, int to, long lineNumber) {
+        return new IOException("Invalid edge at line " + lineNumber + ": " + new String(bytes, from, to - from, StandardCharsets.UTF_8));
+    }
+
+    private final Function<String, V> keyDecoder;
+    private byte delimiter = EdgeListFormat.DEFAULT_DELIMITER;
+
+}
@@ -0,0 +1,128 @@
+/*
+** © Bart Kampers
+** This code may not be used for any purpose that harms humans (including
+** exploitation and discrimination), humanity, the environment or the
+** universe.
+*/
+
+package bka.math.graphs.io;
+
+import bka.math.graphs.*;
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.charset.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.function.*;
+
+/**
+ * Writes delimited edge lists, one edge per line, that can be read by EdgeListReader.
+ * Lines are collected in a fixed size buffer that is written to the channel whenever it is full.
+ * Edge lists contain no vertices without edges and do not tell whether edges are directed.
+ * @see bka.math.graphs.io.EdgeListReader
+ * @param <V> Vertex type
+ * @param <E> Edge of Vertex type
+ */
+public class EdgeListWriter<V, E extends Edge<V>> {
+
+    /**
+     * @param keyEncoder function that returns a unique key for every vertex
+     */
+    public EdgeListWriter(Function<V, String> keyEncoder) {
+        this.keyEncoder = Objects.requireNonNull(keyEncoder);
+    }
+
+    /**
+     * @param delimiter ASCII character that separates the columns, tab by default
+     * @throws IllegalArgumentException if given delimiter is not ASCII, a line break or the comment character
+     */
+    public void setDelimiter(char delimiter) {
+        EdgeListFormat.checkDelimiter(delimiter);
+        this.delimiter = delimiter;
+    }
+
+    /**
+     * @param weight function that returns the weight of every edge, null if no weight column is written
+     */
+    public void setWeight(ToDoubleFunction<E> weight) {
+        this.weight = weight;
+    }
+
+    /**
+     * Write the edges of given graph to given path, replacing the file if it exists.
+     * @param graph
+     * @param path
+     * @throws IOException
+     * @throws IllegalArgumentException if a vertex key is empty, starts with the comment character or contains the delimiter or a line break
+     */
+    public void write(GraphBase<V, E> graph, Path path) throws IOException {
+        write(graph.getEdges(), path);
+    }
+
+    /**
+     * Write given edges to given path, replacing the file if it exists.
+     * @param edges
+     * @param path
+     * @throws IOException
+     * @throws IllegalArgumentException if a vertex key is empty, starts with the comment character or contains the delimiter or a line break
+     */
+    public void write(Collection<E> edges, Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            write(edges, channel);
+        }
+    }
+
+    /**
+     * @param edges
+     * @param channel
+     * @throws IOException
+     * @throws IllegalArgumentException if a vertex key is empty, starts with the comment character or contains the delimiter or a line break
+     */
+    public void write(Collection<E> edges, WritableByteChannel channel) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(EdgeListFormat.BUFFER_SIZE);
+        StringBuilder line = new StringBuilder();
+        for (E edge : edges) {
+            Iterator<V> vertices = edge.getVertices().iterator();
+            line.setLength(0);
+            line.append(key(vertices.next())).append(delimiter).append(key(vertices.next()));
+            if (weight != null) {
+                line.append(delimiter).append(weight.applyAsDouble(edge));
+            }
+            line.append(EdgeListFormat.LINE_FEED);
+            byte[] bytes = line.toString().getBytes(StandardCharsets.UTF_8);
+            if (bytes.length > buffer.remaining()) {
+                flush(channel, buffer);
+            }
+            if (bytes.length > buffer.capacity()) {
+                flush(channel, ByteBuffer.wrap(bytes).position(bytes.length));
+            }
+            else {
+                buffer.put(bytes);
+            }
+        }
+        flush(channel, buffer);
+    }
+
+    private String key(V vertex) {
+        String key = keyEncoder.apply(vertex);
+        if (key.isEmpty() || key.charAt(0) == EdgeListFormat.COMMENT || key.indexOf(delimiter) >= 0
+            || key.indexOf(EdgeListFormat.LINE_FEED) >= 0 || key.indexOf(EdgeListFormat.CARRIAGE_RETURN) >= 0) {
+            throw new IllegalArgumentException("Invalid vertex key: '" + key + "'");
+        }
+        return key;
+    }
+
+    private static void flush(WritableByteChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    private final Function<V, String> keyEncoder;
+    private char delimiter = EdgeListFormat.DEFAULT_DELIMITER;
+    private ToDoubleFunction<E> weight;
+
+}
@@ -0,0 +1,40 @@
+/*
+** © Bart Kampers
+** This code may not be used for any purpose that harms humans (including
+** exploitation and discrimination), humanity, the environment or the
+** universe.
+*/
+
+package bka.math.graphs.io;
+
+/**
+ * Layout of binary graph files. All numbers are big endian.
+ * <pre>
+ * header       10 ints: magic, version, flags, vertex count (V), edge count (E),
+ *              incidence length (I), outgoing length (O), incoming length (N), key length (K), reserved
+ * weights      E doubles, only if the WEIGHTED flag is set
+ * edges        E ints: first vertex indices, E ints: second vertex indices
+ * incidence    V + 1 ints: offsets, I ints: edge indices
+ * outgoing     V + 1 ints: offsets, O ints: edge indices
+ * incoming     V + 1 ints: offsets, N ints: edge indices
+ * key offsets  V + 1 ints
+ * directions   E bytes: 1 for directed edges, 0 for undirected edges
+ * keys         K bytes: UTF-8 encoded vertex keys, sorted by unsigned byte order
+ * </pre>
+ */
+final class GraphFileFormat {
+
+    private GraphFileFormat() {
+    }
+
+    static long size(int vertexCount, int edgeCount, int incidenceLength, int outgoingLength, int incomingLength, int keyLength, boolean weighted) {
+        long intCount = 2L * edgeCount + 4L * (vertexCount + 1) + incidenceLength + outgoingLength + incomingLength;
+        return HEADER_SIZE + ((weighted) ? (long) Double.BYTES * edgeCount : 0) + Integer.BYTES * intCount + edgeCount + keyLength;
+    }
+
+    static final int MAGIC = 0x424B4147;
+    static final int VERSION = 1;
+    static final int WEIGHTED = 1;
+    static final int HEADER_SIZE = 10 * Integer.BYTES;
+
+}
@@ -0,0 +1,147 @@
+/*
+** © Bart Kampers
+** This code may not be used for any purpose that harms humans (including
+** exploitation and discrimination), humanity, the environment or the
+** universe.
+*/
+
+package bka.math.graphs.io;
+
+import bka.math.graphs.*;
+import java.io.*;
+import java.nio.charset.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.function.*;
+
+/**
+ * Writes graphs to binary files that can be opened as MappedGraph.
+ * Vertices are identified by string keys. Edges may be weighted.
+ * @see bka.math.graphs.io.MappedGraph
+ * @param <V> Vertex type
+ * @param <E> Edge of Vertex type
+ */
+public class GraphFileWriter<V, E extends Edge<V>> {
+
+    /**
+     * @param keyEncoder function that returns a unique key for every vertex
+     */
+    public GraphFileWriter(Function<V, String> keyEncoder) {
+        this.keyEncoder = Objects.requireNonNull(keyEncoder);
+    }
+
+    /**
+     * @param weight function that returns the weight of every edge, null if edges are not weighted
+     */
+    public void setWeight(ToDoubleFunction<E> weight) {
+        this.weight = weight;
+    }
+
+    /**
+     * Write given graph to given path, replacing the file if it exists.
+     * @param graph
+     * @param path
+     * @throws IOException
+     * @throws IllegalArgumentException if two vertices of given graph have equal keys
+     */
+    public void write(GraphBase<V, E> graph, Path path) throws IOException {
+        List<Key<V>> keys = sortedKeys(graph.getVertices());
+        List<V> vertices = new ArrayList<>(keys.size());
+        keys.forEach(key -> vertices.add(key.vertex()));
+        CompactGraph<V, E> compactGraph = new CompactGraph<>(vertices, graph.getEdges());
+        if (compactGraph.getVertexCount() != vertices.size()) {
+            throw new IllegalArgumentException("Graph contains edges incident on vertices it does not contain");
+        }
+        try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path)))) {
+            writeHeader(output, compactGraph, keys);
+            if (weight != null) {
+                for (int edge = 0; edge < compactGraph.getEdgeCount(); ++edge) {
+                    output.writeDouble(weight.applyAsDouble(compactGraph.getEdge(edge)));
+                }
+            }
+            for (int edge = 0; edge < compactGraph.getEdgeCount(); ++edge) {
+                output.writeInt(compactGraph.getFirstVertexIndex(edge));
+            }
+            for (int edge = 0; edge < compactGraph.getEdgeCount(); ++edge) {
+                output.writeInt(compactGraph.getSecondVertexIndex(edge));
+            }
+            writeAdjacency(output, compactGraph, compactGraph::getIncidenceCount, compactGraph::getIncidentEdgeIndex);
+            writeAdjacency(output, compactGraph, compactGraph::getOutgoingCount, compactGraph::getOutgoingEdgeIndex);
+            writeAdjacency(output, compactGraph, compactGraph::getIncomingCount, compactGraph::getIncomingEdgeIndex);
+            int offset = 0;
+            output.writeInt(offset);
+            for (Key<V> key : keys) {
+                offset += key.bytes().length;
+                output.writeInt(offset);
+            }
+            for (int edge = 0; edge < compactGraph.getEdgeCount(); ++edge) {
+                output.writeByte(compactGraph.isDirected(edge) ? 1 : 0);
+            }
+            for (Key<V> key : keys) {
+                output.write(key.bytes());
+            }
+        }
+    }
+
+    private List<Key<V>> sortedKeys(Collection<V> vertices) {
+        List<Key<V>> keys = new ArrayList<>(vertices.size());
+        vertices.forEach(vertex -> keys.add(new Key<>(vertex, keyEncoder.apply(vertex).getBytes(StandardCharsets.UTF_8))));
+        keys.sort((key1, key2) -> Arrays.compareUnsigned(key1.bytes(), key2.bytes()));
+        for (int i = 1; i < keys.size(); ++i) {
+            if (Arrays.equals(keys.get(i - 1).bytes(), keys.get(i).bytes())) {
+                throw new IllegalArgumentException("Duplicate vertex key: " + new String(keys.get(i).bytes(), StandardCharsets.UTF_8));
+            }
+        }
+        return keys;
+    }
+
+    private void writeHeader(DataOutputStream output, CompactGraph<V, E> graph, List<Key<V>> keys) throws IOException {
+        long keyLength = 0;
+        for (Key<V> key : keys) {
+            keyLength += key.bytes().length;
+        }
+        int incidenceLength = 0;
+        int outgoingLength = 0;
+        int incomingLength = 0;
+        for (int vertex = 0; vertex < graph.getVertexCount(); ++vertex) {
+            incidenceLength += graph.getIncidenceCount(vertex);
+            outgoingLength += graph.getOutgoingCount(vertex);
+            incomingLength += graph.getIncomingCount(vertex);
+        }
+        if (keyLength > Integer.MAX_VALUE
+            || GraphFileFormat.size(graph.getVertexCount(), graph.getEdgeCount(), incidenceLength, outgoingLength, incomingLength, (int) keyLength, weight != null) > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Graph too large to be mapped");
+        }
+        output.writeInt(GraphFileFormat.MAGIC);
+        output.writeInt(GraphFileFormat.VERSION);
+        output.writeInt((weight != null) ? GraphFileFormat.WEIGHTED : 0);
+        output.writeInt(graph.getVertexCount());
+        output.writeInt(graph.getEdgeCount());
+        output.writeInt(incidenceLength);
+        output.writeInt(outgoingLength);
+        output.writeInt(incomingLength);
+        output.writeInt((int) keyLength);
+        output.writeInt(0);
+    }
+
+    private static void writeAdjacency(DataOutputStream output, CompactGraph<?, ?> graph, IntUnaryOperator count, IntBinaryOperator edgeIndex) throws IOException {
+        int offset = 0;
+        output.writeInt(offset);
+        for (int vertex = 0; vertex < graph.getVertexCount(); ++vertex) {
+            offset += count.applyAsInt(vertex);
+            output.writeInt(offset);
+        }
+        for (int vertex = 0; vertex < graph.getVertexCount(); ++vertex) {
+            for (int n = 0; n < count.applyAsInt(vertex); ++n) {
+                output.writeInt(edgeIndex.applyAsInt(vertex, n));
+            }
+        }
+    }
+
+    private record Key<V>(V vertex, byte[] bytes) {
+    }
+
+    private final Function<V, String> keyEncoder;
+    private ToDoubleFunction<E> weight;
+
+}
@@ -0,0 +1,493 @@
+/*
+** © Bart Kampers
+** This code may not be used for any purpose that harms humans (including
+** exploitation and discrimination), humanity, the environment or the
+** universe.
+*/
+
+package bka.math.graphs.io;
+
+import bka.math.graphs.*;
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.charset.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.function.*;
+
+/**
+ * Read-only graph backed by a memory mapped file, as written by GraphFileWriter.
+ * Opening a file only reads its header. Vertices are decoded from their keys and edges are created when they are accessed,
+ * so the graph takes hardly any heap space and processes that map the same file share the operating system's page cache.
+ * Edges are of type DirectedEdge or UndirectedEdge, as written. Edges are equal if they are the same edge of the same mapped graph.
+ * Besides the GraphBase interface this class offers the same index based accessors as CompactGraph.
+ * Files are limited to 2 GB.
+ * @see bka.math.graphs.io.GraphFileWriter
+ * @see bka.math.graphs.CompactGraph
+ * @param <V> Vertex type
+ */
+public class MappedGraph<V> implements IndexedGraph<V, Edge<V>> {
+
+    /**
+     * Map given file.
+     * @param path of file written by GraphFileWriter
+     * @param keyEncoder function that returns the key of a vertex, equal to the key function the file was written with
+     * @param keyDecoder function that returns the vertex of a key
+     * @throws IOException if the file cannot be read or is not a valid graph file
+     */
+    public MappedGraph(Path path, Function<V, String> keyEncoder, Function<String, V> keyDecoder) throws IOException {
+        this.keyEncoder = Objects.requireNonNull(keyEncoder);
+        this.keyDecoder = Objects.requireNonNull(keyDecoder);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() < GraphFileFormat.HEADER_SIZE || channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Invalid graph file size: " + channel.size());
+            }
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        if (buffer.getInt(0) != GraphFileFormat.MAGIC || buffer.getInt(Integer.BYTES) != GraphFileFormat.VERSION) {
+            throw new IOException("Not a graph file: " + path);
+        }
+        boolean weighted = (buffer.getInt(2 * Integer.BYTES) & GraphFileFormat.WEIGHTED) != 0;
+        vertexCount = buffer.getInt(3 * Integer.BYTES);
+        edgeCount = buffer.getInt(4 * Integer.BYTES);
+        int incidenceLength = buffer.getInt(5 * Integer.BYTES);
+        int outgoingLength = buffer.getInt(6 * Integer.BYTES);
+        int incomingLength = buffer.getInt(7 * Integer.BYTES);
+        int keyLength = buffer.getInt(8 * Integer.BYTES);
+        if (buffer.capacity() != GraphFileFormat.size(vertexCount, edgeCount, incidenceLength, outgoingLength, incomingLength, keyLength, weighted)) {
+            throw new IOException("Corrupt graph file: " + path);
+        }
+        int position = GraphFileFormat.HEADER_SIZE;
+        weights = (weighted) ? buffer.slice(position, edgeCount * Double.BYTES).asDoubleBuffer() : null;
+        position += (weighted) ? edgeCount * Double.BYTES : 0;
+        firstVertices = intBuffer(position, edgeCount);
+        position += edgeCount * Integer.BYTES;
+        secondVertices = intBuffer(position, edgeCount);
+        position += edgeCount * Integer.BYTES;
+        incidenceOffsets = intBuffer(position, vertexCount + 1);
+        position += (vertexCount + 1) * Integer.BYTES;
+        incidentEdges = intBuffer(position, incidenceLength);
+        position += incidenceLength * Integer.BYTES;
+        outgoingOffsets = intBuffer(position, vertexCount + 1);
+        position += (vertexCount + 1) * Integer.BYTES;
+        outgoingEdges = intBuffer(position, outgoingLength);
+        position += outgoingLength * Integer.BYTES;
+        incomingOffsets = intBuffer(position, vertexCount + 1);
+        position += (vertexCount + 1) * Integer.BYTES;
+        incomingEdges = intBuffer(position, incomingLength);
+        position += incomingLength * Integer.BYTES;
+        keyOffsets = intBuffer(position, vertexCount + 1);
+        position += (vertexCount + 1) * Integer.BYTES;
+        directionsPosition = position;
+        keysPosition = position + edgeCount;
+        edgeSet = Collections.unmodifiableSet(new EdgeSet(null, 0, edgeCount));
+    }
+
+    private IntBuffer intBuffer(int position, int length) {
+        return buffer.slice(position, length * Integer.BYTES).asIntBuffer();
+    }
+
+    @Override
+    public Set<V> getVertices() {
+        return vertexSet;
+    }
+
+    @Override
+    public Set<Edge<V>> getEdges() {
+        return edgeSet;
+    }
+
+    @Override
+    public Set<Edge<V>> getIncidentEdges(V vertex) {
+        int index = getVertexIndex(vertex);
+        return (index < 0) ? Collections.emptySet() : new EdgeSet(incidentEdges, incidenceOffsets.get(index), incidenceOffsets.get(index + 1));
+    }
+
+    @Override
+    public Set<Edge<V>> getOutgoingEdges(V vertex) {
+        int index = getVertexIndex(vertex);
+        return (index < 0) ? Collections.emptySet() : new EdgeSet(outgoingEdges, outgoingOffsets.get(index), outgoingOffsets.get(index + 1));
+    }
+
+    @Override
+    public Set<Edge<V>> getIncomingEdges(V vertex) {
+        int index = getVertexIndex(vertex);
+        return (index < 0) ? Collections.emptySet() : new EdgeSet(incomingEdges, incomingOffsets.get(index), incomingOffsets.get(index + 1));
+    }
+
+    @Override
+    public int getVertexCount() {
+        return vertexCount;
+    }
+
+    @Override
+    public int getEdgeCount() {
+        return edgeCount;
+    }
+
+    /**
+     * Binary search for the key of given vertex. Takes time proportional to the logarithm of the number of vertices.
+     * @param vertex
+     * @return index of given vertex, -1 if this graph does not contain the vertex
+     */
+    @Override
+    public int getVertexIndex(V vertex) {
+        byte[] key = keyEncoder.apply(vertex).getBytes(StandardCharsets.UTF_8);
+        int low = 0;
+        int high = vertexCount - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int comparison = compareKey(middle, key);
+            if (comparison < 0) {
+                low = middle + 1;
+            }
+            else if (comparison > 0) {
+                high = middle - 1;
+            }
+            else {
+                return middle;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @param edge
+     * @return index of given edge, -1 if given edge is not an edge of this graph
+     */
+    @Override
+    public int getEdgeIndex(Edge<V> edge) {
+        return (edge instanceof MappedEdge mappedEdge && mappedEdge.getGraph() == this) ? mappedEdge.getIndex() : -1;
+    }
+
+    /**
+     * @param vertexIndex
+     * @return vertex decoded from the key at given index
+     */
+    @Override
+    public V getVertex(int vertexIndex) {
+        int from = keysPosition + keyOffsets.get(vertexIndex);
+        byte[] key = new byte[keysPosition + keyOffsets.get(vertexIndex + 1) - from];
+        buffer.get(from, key);
+        return keyDecoder.apply(new String(key, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param edgeIndex
+     * @return new edge object representing the edge at given index
+     */
+    @Override
+    public Edge<V> getEdge(int edgeIndex) {
+        Objects.checkIndex(edgeIndex, edgeCount);
+        return (isDirected(edgeIndex)) ? new MappedDirectedEdge(edgeIndex) : new MappedUndirectedEdge(edgeIndex);
+    }
+
+    /**
+     * @param edgeIndex
+     * @return index of the first vertex of given edge, the origin if the edge is directed.
+     */
+    @Override
+    public int getFirstVertexIndex(int edgeIndex) {
+        return firstVertices.get(edgeIndex);
+    }
+
+    /**
+     * @param edgeIndex
+     * @return index of the second vertex of given edge, the terminus if the edge is directed.
+     */
+    @Override
+    public int getSecondVertexIndex(int edgeIndex) {
+        return secondVertices.get(edgeIndex);
+    }
+
+    /**
+     * @param edgeIndex
+     * @param vertexIndex of a vertex incident on given edge
+     * @return index of the vertex that is connected to given vertex by given edge.
+     */
+    @Override
+    public int getAdjacentVertexIndex(int edgeIndex, int vertexIndex) {
+        int first = firstVertices.get(edgeIndex);
+        return (first == vertexIndex) ? secondVertices.get(edgeIndex) : first;
+    }
+
+    /**
+     * @param edgeIndex
+     * @return true if given edge is directed
+     */
+    @Override
+    public boolean isDirected(int edgeIndex) {
+        return buffer.get(directionsPosition + edgeIndex) != 0;
+    }
+
+    /**
+     * @param vertexIndex
+     * @return number of edges incident on given vertex, where a loop is counted once.
+     */
+    @Override
+    public int getIncidenceCount(int vertexIndex) {
+        return incidenceOffsets.get(vertexIndex + 1) - incidenceOffsets.get(vertexIndex);
+    }
+
+    /**
+     * @param vertexIndex
+     * @param n ranging from 0 to the incidence count of given vertex
+     * @return index of the n-th edge incident on given vertex
+     */
+    @Override
+    public int getIncidentEdgeIndex(int vertexIndex, int n) {
+        return incidentEdges.get(incidenceOffsets.get(vertexIndex) + n);
+    }
+
+    @Override
+    public int getOutgoingCount(int vertexIndex) {
+        return outgoingOffsets.get(vertexIndex + 1) - outgoingOffsets.get(vertexIndex);
+    }
+
+    @Override
+    public int getOutgoingEdgeIndex(int vertexIndex, int n) {
+        return outgoingEdges.get(outgoingOffsets.get(vertexIndex) + n);
+    }
+
+    @Override
+    public int getIncomingCount(int vertexIndex) {
+        return incomingOffsets.get(vertexIndex + 1) - incomingOffsets.get(vertexIndex);
+    }
+
+    @Override
+    public int getIncomingEdgeIndex(int vertexIndex, int n) {
+        return incomingEdges.get(incomingOffsets.get(vertexIndex) + n);
+    }
+
+    /**
+     * @return true if the file contains edge weights
+     */
+    public boolean isWeighted() {
+        return weights != null;
+    }
+
+    /**
+     * @param edgeIndex
+     * @return weight of given edge
+     * @throws IllegalStateException if the file does not contain edge weights
+     */
+    public double getWeight(int edgeIndex) {
+        if (weights == null) {
+            throw new IllegalStateException("Graph is not weighted");
+        }
+        return weights.get(edgeIndex);
+    }
+
+    /**
+     * Can be used as weight function for path finders.
+     * @param edge
+     * @return weight of given edge
+     * @throws IllegalStateException if the file does not contain edge weights
+     * @throws IllegalArgumentException if given edge is not an edge of this graph
+     */
+    public double getWeight(Edge<V> edge) {
+        int index = getEdgeIndex(edge);
+        if (index < 0) {
+            throw new IllegalArgumentException("Not an edge of this graph: " + edge);
+        }
+        return getWeight(index);
+    }
+
+    private int compareKey(int vertexIndex, byte[] key) {
+        int from = keysPosition + keyOffsets.get(vertexIndex);
+        int length = keysPosition + keyOffsets.get(vertexIndex + 1) - from;
+        for (int i = 0; i < Math.min(length, key.length); ++i) {
+            int comparison = Byte.compareUnsigned(buffer.get(from + i), key[i]);
+            if (comparison != 0) {
+                return comparison;
+            }
+        }
+        return Integer.compare(length, key.length);
+    }
+
+    private interface MappedEdge {
+
+        MappedGraph<?> getGraph();
+
+        int getIndex();
+
+    }
+
+    private final class MappedDirectedEdge extends DirectedEdge<V> implements MappedEdge {
+
+        MappedDirectedEdge(int index) {
+            super(getVertex(getFirstVertexIndex(index)), getVertex(getSecondVertexIndex(index)));
+            this.index = index;
+        }
+
+        @Override
+        public MappedGraph<?> getGraph() {
+            return MappedGraph.this;
+        }
+
+        @Override
+        public int getIndex() {
+            return index;
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            return object instanceof MappedEdge other && other.getGraph() == getGraph() && other.getIndex() == index;
+        }
+
+        @Override
+        public int hashCode() {
+            return index;
+        }
+
+        private final int index;
+    }
+
+    private final class MappedUndirectedEdge extends UndirectedEdge<V> implements MappedEdge {
+
+        MappedUndirectedEdge(int index) {
+            super(getVertex(getFirstVertexIndex(index)), getVertex(getSecondVertexIndex(index)));
+            this.index = index;
+        }
+
+        @Override
+        public MappedGraph<?> getGraph() {
+            return MappedGraph.this;
+        }
+
+        @Override
+        public int getIndex() {
+            return index;
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            return object instanceof MappedEdge other && other.getGraph() == getGraph() && other.getIndex() == index;
+        }
+
+        @Override
+        public int hashCode() {
+            return index;
+        }
+
+        private final int index;
+    }
+
+    private class VertexSet extends AbstractSet<V> {
+
+        @Override
+        public Iterator<V> iterator() {
+            return new Iterator<>() {
+
+                @Override
+                public boolean hasNext() {
+                    return next < vertexCount;
+                }
+
+                @Override
+                public V next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    return getVertex(next++);
+                }
+
+                private int next;
+            };
+        }
+
+        @Override
+        public int size() {
+            return vertexCount;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public boolean contains(Object object) {
+            return object != null && getVertexIndex((V) object) >= 0;
+        }
+
+    }
+
+    private class EdgeSet extends AbstractSet<Edge<V>> {
+
+        EdgeSet(IntBuffer edgeIndices, int from, int to) {
+            this.edgeIndices = edgeIndices;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        public Iterator<Edge<V>> iterator() {
+            return new Iterator<>() {
+
+                @Override
+                public boolean hasNext() {
+                    return next < to;
+                }
+
+                @Override
+                public Edge<V> next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    return getEdge((edgeIndices == null) ? next++ : edgeIndices.get(next++));
+                }
+
+                private int next = from;
+            };
+        }
+
+        @Override
+        public int size() {
+            return to - from;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public boolean contains(Object object) {
+            if (!(object instanceof Edge)) {
+                return false;
+            }
+            int index = getEdgeIndex((Edge<V>) object);
+            if (index < 0) {
+                return false;
+            }
+            if (edgeIndices == null) {
+                return true;
+            }
+            for (int i = from; i < to; ++i) {
+                if (edgeIndices.get(i) == index) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private final IntBuffer edgeIndices;
+        private final int from;
+        private final int to;
+    }
+
+    private final Function<V, String> keyEncoder;
+    private final Function<String, V> keyDecoder;
+    private final MappedByteBuffer buffer;
+    private final int vertexCount;
+    private final int edgeCount;
+    private final DoubleBuffer weights;
+    private final IntBuffer firstVertices;
+    private final IntBuffer secondVertices;
+    private final IntBuffer incidenceOffsets;
+    private final IntBuffer incidentEdges;
+    private final IntBuffer outgoingOffsets;
+    private final IntBuffer outgoingEdges;
+    private final IntBuffer incomingOffsets;
+    private final IntBuffer incomingEdges;
+    private final IntBuffer keyOffsets;
+    private final int directionsPosition;
+    private final int keysPosition;
+    private final Set<V> vertexSet = Collections.unmodifiableSet(new VertexSet());
+    private final Set<Edge<V>> edgeSet;
+
+}
@@ -0,0 +1,336 @@
+/*
+** © Bart Kampers
+** This code may not be used for any purpose that harms humans (including
+** exploitation and discrimination), humanity, the environment or the
+** universe.
+*/
+
+package bka.math.graphs.metrics;
+
+import bka.math.graphs.*;
+import bka.math.graphs.utils.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.*;
+
+/**
+ * Centrality metrics that rank the vertices of a graph by their position in it.
+ * Betweenness and closeness need a shortest path search from every vertex, taking time proportional to V * E for unweighted graphs
+ * and V * E log V for weighted graphs. The sources are divided over the tasks of a ForkJoinPool. Every task owns its work arrays
+ * and accumulates into its own result array; results are summed when tasks are joined.
+ * Edges of type DirectedEdge are only traversed from origin to terminus, other edges are traversed both ways.
+ *
+ * @param <V> vertex type
+ * @param <E> edge type
+ * @see <a href="https://en.wikipedia.org/wiki/Betweenness_centrality">Betweenness centrality on Wikipedia</a>
+ * @see <a href="https://en.wikipedia.org/wiki/Closeness_centrality">Closeness centrality on Wikipedia</a>
+ */
+public class Centrality<V, E extends Edge<V>> {
+
+    /**
+     * Create centrality metrics for unweighted graphs, where the length of a path is its number of edges.
+     */
+    public Centrality() {
+        this(null, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param weight function that supplies the weight (length, cost) of edges
+     */
+    public Centrality(ToDoubleFunction<E> weight) {
+        this(Objects.requireNonNull(weight), ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param weight function that supplies the weight (length, cost) of edges, null if the graph is unweighted
+     * @param pool
+     */
+    public Centrality(ToDoubleFunction<E> weight, ForkJoinPool pool) {
+        this.weight = weight;
+        this.pool = Objects.requireNonNull(pool);
+    }
+
+    /**
+     * Betweenness of a vertex is the sum, over all pairs of other vertices, of the fraction of shortest paths between the pair that pass the vertex.
+     * Uses Brandes' algorithm. Pairs are ordered, except when the graph contains no edges of type DirectedEdge.
+     *
+     * @param graph
+     * @return betweenness of every vertex of given graph
+     * @throws IllegalArgumentException if an edge has a weight that is not positive
+     */
+    public Map<V, Double> getBetweenness(GraphBase<V, E> graph) {
+        IndexedGraph<V, E> indexedGraph = IndexedGraph.of(graph);
+        double[] betweenness = accumulate(indexedGraph, (search, source, result) -> search.accumulateDependencies(source, result));
+        if (!hasDirectedEdges(indexedGraph)) {
+            for (int vertex = 0; vertex < betweenness.length; ++vertex) {
+                betweenness[vertex] /= 2.0;
+            }
+        }
+        return map(indexedGraph, betweenness);
+    }
+
+    /**
+     * Closeness of a vertex is the number of vertices it reaches divided by the sum of the distances to them, scaled by the fraction of
+     * other vertices it reaches, so that vertices in small components do not get high closeness.
+     *
+     * @param graph
+     * @return closeness of every vertex of given graph, 0 for vertices that reach no other vertex
+     * @throws IllegalArgumentException if an edge has a weight that is not positive
+     * @see <a href="https://doi.org/10.1017/CBO9780511815478">Wasserman and Faust, Social Network Analysis</a>
+     */
+    public Map<V, Double> getCloseness(GraphBase<V, E> graph) {
+        IndexedGraph<V, E> indexedGraph = IndexedGraph.of(graph);
+        int otherCount = indexedGraph.getVertexCount() - 1;
+        double[] closeness = accumulate(indexedGraph, (search, source, result) -> {
+            search.run(source);
+            int reachedCount = search.getReachedCount() - 1;
+            if (reachedCount > 0) {
+                result[source] = reachedCount / search.getDistanceSum() * reachedCount / otherCount;
+            }
+        });
+        return map(indexedGraph, closeness);
+    }
+
+    /**
+     * Degree centrality of a vertex is the number of edges incident on it divided by the number of other vertices.
+     *
+     * @param graph
+     * @return degree centrality of every vertex of given graph
+     */
+    public Map<V, Double> getDegree(GraphBase<V, E> graph) {
+        IndexedGraph<V, E> indexedGraph = IndexedGraph.of(graph);
+        double[] degrees = new double[indexedGraph.getVertexCount()];
+        if (degrees.length > 1) {
+            for (int vertex = 0; vertex < degrees.length; ++vertex) {
+                degrees[vertex] = (double) indexedGraph.getIncidenceCount(vertex) / (degrees.length - 1);
+            }
+        }
+        return map(indexedGraph, degrees);
+    }
+
+    private double[] accumulate(IndexedGraph<V, E> graph, SourceAccumulator accumulator) {
+        double[] weights = weights(graph);
+        int threshold = Math.max(1, graph.getVertexCount() / (pool.getParallelism() * TASKS_PER_THREAD));
+        return pool.invoke(new AccumulationTask(graph, weights, accumulator, 0, graph.getVertexCount(), threshold));
+    }
+
+    /**
+     * @return weight of every edge index, null if graph is unweighted
+     */
+    private double[] weights(IndexedGraph<V, E> graph) {
+        if (weight == null) {
+            return null;
+        }
+        double[] weights = new double[graph.getEdgeCount()];
+        for (int edge = 0; edge < weights.length; ++edge) {
+            weights[edge] = weight.applyAsDouble(graph.getEdge(edge));
+            if (!(weights[edge] > 0.0)) {
+                throw new IllegalArgumentException("Illegal weight " + weights[edge] + " of edge " + graph.getEdge(edge));
+            }
+        }
+        return weights;
+    }
+
+    private static boolean hasDirectedEdges(IndexedGraph<?, ?> graph) {
+        for (int edge = 0; edge < graph.getEdgeCount(); ++edge) {
+            if (graph.isDirected(edge)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Map<V, Double> map(IndexedGraph<V, E> graph, double[] values) {
+        Map<V, Double> map = new HashMap<>();
+        for (int vertex = 0; vertex < values.length; ++vertex) {
+            map.put(graph.getVertex(vertex), values[vertex]);
+        }
+        return map;
+    }
+
+    private interface SourceAccumulator {
+        void accumulate(Search search, int source, double[] result);
+    }
+
+    private static class AccumulationTask extends RecursiveTask<double[]> {
+
+        AccumulationTask(IndexedGraph<?, ?> graph, double[] weights, SourceAccumulator accumulator, int from, int to, int threshold) {
+            this.graph = graph;
+            this.weights = weights;
+            this.accumulator = accumulator;
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected double[] compute() {
+            if (to - from <= threshold) {
+                double[] result = new double[graph.getVertexCount()];
+                Search search = new Search(graph, weights);
+                for (int source = from; source < to; ++source) {
+                    accumulator.accumulate(search, source, result);
+                }
+                return result;
+            }
+            int middle = (from + to) >>> 1;
+            AccumulationTask left = new AccumulationTask(graph, weights, accumulator, from, middle, threshold);
+            left.fork();
+            double[] result = new AccumulationTask(graph, weights, accumulator, middle, to, threshold).compute();
+            double[] leftResult = left.join();
+            for (int vertex = 0; vertex < result.length; ++vertex) {
+                result[vertex] += leftResult[vertex];
+            }
+            return result;
+        }
+
+        private final IndexedGraph<?, ?> graph;
+        private final double[] weights;
+        private final SourceAccumulator accumulator;
+        private final int from;
+        private final int to;
+        private final int threshold;
+    }
+
+    /**
+     * Single source shortest path search that counts shortest paths, with work arrays that are reused for every source.
+     * Breadth first if the graph is unweighted, Dijkstra's algorithm otherwise. Only the entries of reached vertices are reset between searches.
+     */
+    private static class Search {
+
+        Search(IndexedGraph<?, ?> graph, double[] weights) {
+            this.graph = graph;
+            this.weights = weights;
+            int vertexCount = graph.getVertexCount();
+            distances = new double[vertexCount];
+            pathCounts = new double[vertexCount];
+            dependencies = new double[vertexCount];
+            order = new int[vertexCount];
+            queue = (weights == null) ? null : new IndexedDoubleHeap(vertexCount);
+            Arrays.fill(distances, Double.POSITIVE_INFINITY);
+        }
+
+        void run(int source) {
+            for (int i = 0; i < reachedCount; ++i) {
+                distances[order[i]] = Double.POSITIVE_INFINITY;
+                pathCounts[order[i]] = 0.0;
+                dependencies[order[i]] = 0.0;
+            }
+            reachedCount = 0;
+            distances[source] = 0.0;
+            pathCounts[source] = 1.0;
+            if (weights == null) {
+                breadthFirst(source);
+            }
+            else {
+                dijkstra(source);
+            }
+        }
+
+        private void breadthFirst(int source) {
+            order[reachedCount++] = source;
+            for (int head = 0; head < reachedCount; ++head) {
+                int vertex = order[head];
+                for (int i = 0; i < graph.getIncidenceCount(vertex); ++i) {
+                    int edge = graph.getIncidentEdgeIndex(vertex, i);
+                    int next = next(edge, vertex);
+                    if (next != NONE) {
+                        if (distances[next] == Double.POSITIVE_INFINITY) {
+                            distances[next] = distances[vertex] + 1.0;
+                            order[reachedCount++] = next;
+                        }
+                        if (distances[next] == distances[vertex] + 1.0) {
+                            pathCounts[next] += pathCounts[vertex];
+                        }
+                    }
+                }
+            }
+        }
+
+        private void dijkstra(int source) {
+            queue.put(source, 0.0);
+            while (!queue.isEmpty()) {
+                int vertex = queue.poll();
+                order[reachedCount++] = vertex;
+                for (int i = 0; i < graph.getIncidenceCount(vertex); ++i) {
+                    int edge = graph.getIncidentEdgeIndex(vertex, i);
+                    int next = next(edge, vertex);
+                    if (next != NONE) {
+                        double distance = distances[vertex] + weights[edge];
+                        if (distance < distances[next]) {
+                            distances[next] = distance;
+                            pathCounts[next] = pathCounts[vertex];
+                            queue.put(next, distance);
+                        }
+                        else if (distance == distances[next]) {
+                            pathCounts[next] += pathCounts[vertex];
+                        }
+                    }
+                }
+            }
+        }
+
+        /**
+         * Add the dependencies of given source on all other vertices to given result.
+         * Vertices are visited in order of decreasing distance, so every vertex has received the dependencies of its successors when it is visited.
+         */
+        void accumulateDependencies(int source, double[] result) {
+            run(source);
+            for (int i = reachedCount - 1; i > 0; --i) {
+                int vertex = order[i];
+                double share = (1.0 + dependencies[vertex]) / pathCounts[vertex];
+                for (int n = 0; n < graph.getIncidenceCount(vertex); ++n) {
+                    int edge = graph.getIncidentEdgeIndex(vertex, n);
+                    int previous = graph.getAdjacentVertexIndex(edge, vertex);
+                    if (next(edge, previous) == vertex && distances[previous] + weight(edge) == distances[vertex]) {
+                        dependencies[previous] += pathCounts[previous] * share;
+                    }
+                }
+                result[vertex] += dependencies[vertex];
+            }
+        }
+
+        int getReachedCount() {
+            return reachedCount;
+        }
+
+        double getDistanceSum() {
+            double sum = 0.0;
+            for (int i = 0; i < reachedCount; ++i) {
+                sum += distances[order[i]];
+            }
+            return sum;
+        }
+
+        private double weight(int edge) {
+            return (weights == null) ? 1.0 : weights[edge];
+        }
+
+        /**
+         * @return index of the vertex that given edge leads to from given vertex, -1 if the edge cannot be traversed from the vertex or is a loop
+         */
+        private int next(int edge, int vertex) {
+            if (graph.isDirected(edge) && graph.getFirstVertexIndex(edge) != vertex) {
+                return NONE;
+            }
+            int next = graph.getAdjacentVertexIndex(edge, vertex);
+            return (next == vertex) ? NONE : next;
+        }
+
+        private final IndexedGraph<?, ?> graph;
+        private final double[] weights;
+        private final double[] distances;
+        private final double[] pathCounts;
+        private final double[] dependencies;
+        private final int[] order;
+        private final IndexedDoubleHeap queue;
+        private int reachedCount;
+    }
+
+    private final ToDoubleFunction<E> weight;
+    private final ForkJoinPool pool;
+
+    private static final int NONE = -1;
+    private static final int TASKS_PER_THREAD = 4;
+
+}
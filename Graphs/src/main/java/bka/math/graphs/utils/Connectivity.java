@@ -0,0 +1,149 @@
+/*
+** © Bart Kampers
+** This code may not be used for any purpose that harms humans (including
+** exploitation and discrimination), humanity, the environment or the
+** universe.
+*/
+
+package bka.math.graphs.utils;
+
+import bka.math.graphs.*;
+import java.util.*;
+
+/**
+ * Keeps track of the connected components of a graph, using union find over dense vertex ids.
+ * Edges are treated as undirected, so components of directed graphs are weakly connected components.
+ * Can be registered as listener of a MutableGraph to stay up to date while vertices and edges are added in nearly constant time per change.
+ * Removing vertices or edges cannot be undone in union find, so the components are then rebuilt from the graph at the next query.
+ * @see bka.math.graphs.MutableGraph#addListener(bka.math.graphs.GraphListener)
+ * @param <V> Vertex type
+ */
+public final class Connectivity<V> implements GraphListener<V, Edge<V>> {
+
+    /**
+     * @param graph to keep track of
+     */
+    public Connectivity(GraphBase<V, ? extends Edge<V>> graph) {
+        this.graph = Objects.requireNonNull(graph);
+        unionFind = new UnionFind(graph.getVertices().size());
+        rebuild();
+    }
+
+    /**
+     * @param vertex1
+     * @param vertex2
+     * @return true if the graph contains a path between given vertices, false if the graph does not contain any of the vertices.
+     */
+    public boolean isConnected(V vertex1, V vertex2) {
+        ensureValid();
+        Integer id1 = ids.get(vertex1);
+        Integer id2 = ids.get(vertex2);
+        return id1 != null && id2 != null && unionFind.connected(id1, id2);
+    }
+
+    /**
+     * @return number of connected components of the graph, isolated vertices included
+     */
+    public int getComponentCount() {
+        ensureValid();
+        return unionFind.getSetCount();
+    }
+
+    /**
+     * @param vertex
+     * @return all vertices connected to given vertex, the vertex itself included. Empty if the graph does not contain the vertex.
+     */
+    public Set<V> getComponent(V vertex) {
+        ensureValid();
+        Integer id = ids.get(vertex);
+        if (id == null) {
+            return Collections.emptySet();
+        }
+        int root = unionFind.find(id);
+        Set<V> component = new HashSet<>();
+        for (int i = 0; i < vertices.size(); ++i) {
+            if (unionFind.find(i) == root) {
+                component.add(vertices.get(i));
+            }
+        }
+        return component;
+    }
+
+    /**
+     * @return all connected components of the graph
+     */
+    public Collection<Set<V>> getComponents() {
+        ensureValid();
+        Map<Integer, Set<V>> components = new HashMap<>();
+        for (int i = 0; i < vertices.size(); ++i) {
+            components.computeIfAbsent(unionFind.find(i), root -> new HashSet<>()).add(vertices.get(i));
+        }
+        return components.values();
+    }
+
+    @Override
+    public void vertexAdded(V vertex) {
+        if (valid) {
+            id(vertex);
+        }
+    }
+
+    @Override
+    public void edgeAdded(Edge<V> edge) {
+        if (valid) {
+            union(edge);
+        }
+    }
+
+    @Override
+    public void vertexRemoved(V vertex) {
+        valid = false;
+    }
+
+    @Override
+    public void edgeRemoved(Edge<V> edge) {
+        valid = false;
+    }
+
+    @Override
+    public void cleared() {
+        valid = false;
+    }
+
+    private void ensureValid() {
+        if (!valid) {
+            rebuild();
+        }
+    }
+
+    private void rebuild() {
+        ids.clear();
+        vertices.clear();
+        unionFind.clear();
+        graph.getVertices().forEach(this::id);
+        graph.getEdges().forEach(this::union);
+        valid = true;
+    }
+
+    private void union(Edge<V> edge) {
+        Iterator<V> vertexIterator = edge.getVertices().iterator();
+        unionFind.union(id(vertexIterator.next()), id(vertexIterator.next()));
+    }
+
+    private int id(V vertex) {
+        Integer id = ids.get(vertex);
+        if (id == null) {
+            id = unionFind.add();
+            ids.put(vertex, id);
+            vertices.add(vertex);
+        }
+        return id;
+    }
+
+    private final GraphBase<V, ? extends Edge<V>> graph;
+    private final UnionFind unionFind;
+    private final Map<V, Integer> ids = new HashMap<>();
+    private final List<V> vertices = new ArrayList<>();
+    private boolean valid;
+
+}
@@ -8,6 +8,7 @@
 package bka.math.graphs.utils;
 
 import bka.math.graphs.*;
+import java.util.*;
 import java.util.function.*;
 
 
@@ -28,7 +29,12 @@ public final class EdgeUtil {
         if (!isIncidentWith(edge, vertex)) {
             throw new IllegalArgumentException("Edge " + edge + " is not incident on vertex " + vertex);
         }
-        return edge.getVertices().stream().filter(v -> !vertex.equals(v)).findAny().orElse(vertex);
+        for (V other : edge.getVertices()) {
+            if (!vertex.equals(other)) {
+                return other;
+            }
+        }
+        return vertex;
     }
 
     /**
@@ -59,7 +65,8 @@ public final class EdgeUtil {
      * @return true if given edge connects a vertex to itself, false otherwise
      */
     public static <V, E extends Edge<V>> boolean isLoop(E edge) {
-        return edge.getVertices().stream().distinct().count() == 1;
+        Iterator<V> iterator = edge.getVertices().iterator();
+        return iterator.next().equals(iterator.next());
     }
 
     /**
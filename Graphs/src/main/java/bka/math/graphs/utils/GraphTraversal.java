@@ -0,0 +1,370 @@
+/*
+** © Bart Kampers
+** This code may not be used for any purpose that harms humans (including
+** exploitation and discrimination), humanity, the environment or the
+** universe.
+*/
+
+package bka.math.graphs.utils;
+
+import bka.math.graphs.*;
+import java.util.*;
+import java.util.stream.*;
+
+/**
+ * Lazy breadth first and depth first traversal of graphs.
+ * Every vertex reachable from the start vertex is visited exactly once. Edges of type DirectedEdge are only traversed from origin to terminus,
+ * other edges are traversed in both directions. Vertices are visited on demand, so a traversal can be terminated early,
+ * for instance with Stream.findFirst or Stream.takeWhile. A full traversal takes time proportional to the number of vertices plus the number of edges.
+ * An IndexedGraph is traversed over its dense vertex indices. Other graphs are not copied: vertices get ids in order of discovery,
+ * and the incident edges of a vertex are only requested when the vertex is expanded, so an early terminated traversal only touches the visited part of the graph.
+ * @see bka.math.graphs.IndexedGraph
+ */
+public final class GraphTraversal {
+
+    private GraphTraversal() {
+    }
+
+    /**
+     * Visit of a vertex during a traversal.
+     * @param <V> vertex type
+     * @param <E> edge type
+     * @param vertex visited vertex
+     * @param depth number of edges between the start vertex and the visited vertex in the traversal tree
+     * @param parent vertex from which the visited vertex was reached, null for the start vertex
+     * @param edge edge along which the visited vertex was reached, null for the start vertex
+     */
+    public record Visit<V, E extends Edge<V>>(V vertex, int depth, V parent, E edge) {
+    }
+
+    /**
+     * @param <V> vertex type
+     * @param <E> edge type
+     * @param graph
+     * @param start
+     * @return stream of visits in breadth first order, so in order of increasing depth. Depths are the lengths of shortest paths from the start vertex.
+     * @throws NoSuchElementException if given graph does not contain the start vertex
+     */
+    public static <V, E extends Edge<V>> Stream<Visit<V, E>> breadthFirst(GraphBase<V, E> graph, V start) {
+        return stream(breadthFirstIterator(graph, start));
+    }
+
+    /**
+     * @param <V> vertex type
+     * @param <E> edge type
+     * @param graph
+     * @param start
+     * @return iterator over visits in breadth first order
+     * @throws NoSuchElementException if given graph does not contain the start vertex
+     */
+    public static <V, E extends Edge<V>> Iterator<Visit<V, E>> breadthFirstIterator(GraphBase<V, E> graph, V start) {
+        Adjacency<V, E> adjacency = adjacency(graph);
+        return new BreadthFirstIterator<>(adjacency, adjacency.getStartId(start));
+    }
+
+    /**
+     * @param <V> vertex type
+     * @param <E> edge type
+     * @param graph
+     * @param start
+     * @return stream of visits in depth first preorder: every vertex is visited before the vertices discovered from it.
+     * @throws NoSuchElementException if given graph does not contain the start vertex
+     */
+    public static <V, E extends Edge<V>> Stream<Visit<V, E>> depthFirst(GraphBase<V, E> graph, V start) {
+        return stream(depthFirstIterator(graph, start));
+    }
+
+    /**
+     * @param <V> vertex type
+     * @param <E> edge type
+     * @param graph
+     * @param start
+     * @return iterator over visits in depth first preorder
+     * @throws NoSuchElementException if given graph does not contain the start vertex
+     */
+    public static <V, E extends Edge<V>> Iterator<Visit<V, E>> depthFirstIterator(GraphBase<V, E> graph, V start) {
+        Adjacency<V, E> adjacency = adjacency(graph);
+        return new DepthFirstIterator<>(adjacency, adjacency.getStartId(start));
+    }
+
+    private static <V, E extends Edge<V>> Adjacency<V, E> adjacency(GraphBase<V, E> graph) {
+        return (graph instanceof IndexedGraph<V, E> indexedGraph) ? new IndexedAdjacency<>(indexedGraph) : new LazyAdjacency<>(graph);
+    }
+
+    private static <V, E extends Edge<V>> Stream<Visit<V, E>> stream(Iterator<Visit<V, E>> iterator) {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL), false);
+    }
+
+    private static int[] ensureCapacity(int[] array, int id) {
+        return (id < array.length) ? array : Arrays.copyOf(array, Math.max(2 * array.length, id + 1));
+    }
+
+    /**
+     * Incident edges of vertices identified by dense ids. The i-th incident edge of a vertex is addressed by the vertex id and position i.
+     */
+    private interface Adjacency<V, E extends Edge<V>> {
+
+        /**
+         * @throws NoSuchElementException if the graph does not contain given vertex
+         */
+        int getStartId(V start);
+
+        /**
+         * @return upper bound of the ids known in advance, 0 if ids are assigned on discovery
+         */
+        int getVertexCount();
+
+        V getVertex(int id);
+
+        int getIncidenceCount(int id);
+
+        E getIncidentEdge(int id, int position);
+
+        /**
+         * @return id of the vertex that the edge at given position leads to, -1 if the edge is directed and the vertex is not its origin
+         */
+        int traverse(int id, int position);
+
+    }
+
+    private static class IndexedAdjacency<V, E extends Edge<V>> implements Adjacency<V, E> {
+
+        IndexedAdjacency(IndexedGraph<V, E> graph) {
+            this.graph = graph;
+        }
+
+        @Override
+        public int getStartId(V start) {
+            int index = graph.getVertexIndex(start);
+            if (index < 0) {
+                throw new NoSuchElementException("Graph does not contain " + start);
+            }
+            return index;
+        }
+
+        @Override
+        public int getVertexCount() {
+            return graph.getVertexCount();
+        }
+
+        @Override
+        public V getVertex(int id) {
+            return graph.getVertex(id);
+        }
+
+        @Override
+        public int getIncidenceCount(int id) {
+            return graph.getIncidenceCount(id);
+        }
+
+        @Override
+        public E getIncidentEdge(int id, int position) {
+            return graph.getEdge(graph.getIncidentEdgeIndex(id, position));
+        }
+
+        @Override
+        public int traverse(int id, int position) {
+            int edge = graph.getIncidentEdgeIndex(id, position);
+            if (graph.isDirected(edge) && graph.getFirstVertexIndex(edge) != id) {
+                return NONE;
+            }
+            return graph.getAdjacentVertexIndex(edge, id);
+        }
+
+        private final IndexedGraph<V, E> graph;
+    }
+
+    /**
+     * Assigns ids to vertices when they are discovered and fetches the incident edges of a vertex when it is expanded.
+     */
+    private static class LazyAdjacency<V, E extends Edge<V>> implements Adjacency<V, E> {
+
+        LazyAdjacency(GraphBase<V, E> graph) {
+            this.graph = graph;
+        }
+
+        @Override
+        public int getStartId(V start) {
+            if (!graph.getVertices().contains(start)) {
+                throw new NoSuchElementException("Graph does not contain " + start);
+            }
+            return vertexIndex.intern(start);
+        }
+
+        @Override
+        public int getVertexCount() {
+            return 0;
+        }
+
+        @Override
+        public V getVertex(int id) {
+            return vertexIndex.getVertex(id);
+        }
+
+        @Override
+        public int getIncidenceCount(int id) {
+            return incidentEdges(id).size();
+        }
+
+        @Override
+        public E getIncidentEdge(int id, int position) {
+            return incidentEdges(id).get(position);
+        }
+
+        @Override
+        public int traverse(int id, int position) {
+            E edge = incidentEdges(id).get(position);
+            V vertex = vertexIndex.getVertex(id);
+            if (edge instanceof DirectedEdge<V> directed && !vertex.equals(directed.getOrigin())) {
+                return NONE;
+            }
+            return vertexIndex.intern(EdgeUtil.getAdjacentVertex(edge, vertex));
+        }
+
+        private List<E> incidentEdges(int id) {
+            while (incidences.size() <= id) {
+                incidences.add(null);
+            }
+            List<E> edges = incidences.get(id);
+            if (edges == null) {
+                edges = new ArrayList<>(graph.getIncidentEdges(vertexIndex.getVertex(id)));
+                incidences.set(id, edges);
+            }
+            return edges;
+        }
+
+        private final GraphBase<V, E> graph;
+        private final VertexIndex<V> vertexIndex = new VertexIndex<>();
+        private final List<List<E>> incidences = new ArrayList<>();
+    }
+
+    private static class BreadthFirstIterator<V, E extends Edge<V>> implements Iterator<Visit<V, E>> {
+
+        BreadthFirstIterator(Adjacency<V, E> adjacency, int start) {
+            this.adjacency = adjacency;
+            int capacity = Math.max(adjacency.getVertexCount(), INITIAL_CAPACITY);
+            queue = new int[capacity];
+            depths = new int[capacity];
+            parents = new int[capacity];
+            parentPositions = new int[capacity];
+            visited = new BitSet(adjacency.getVertexCount());
+            enqueue(start, 0, NONE, NONE);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return head < tail;
+        }
+
+        @Override
+        public Visit<V, E> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            int vertex = queue[head++];
+            for (int i = 0; i < adjacency.getIncidenceCount(vertex); ++i) {
+                int next = adjacency.traverse(vertex, i);
+                if (next != NONE && !visited.get(next)) {
+                    enqueue(next, depths[vertex] + 1, vertex, i);
+                }
+            }
+            return visit(adjacency, vertex, depths[vertex], parents[vertex], parentPositions[vertex]);
+        }
+
+        private void enqueue(int vertex, int depth, int parent, int position) {
+            queue = ensureCapacity(queue, tail);
+            depths = ensureCapacity(depths, vertex);
+            parents = ensureCapacity(parents, vertex);
+            parentPositions = ensureCapacity(parentPositions, vertex);
+            visited.set(vertex);
+            depths[vertex] = depth;
+            parents[vertex] = parent;
+            parentPositions[vertex] = position;
+            queue[tail++] = vertex;
+        }
+
+        private final Adjacency<V, E> adjacency;
+        private final BitSet visited;
+        private int[] queue;
+        private int[] depths;
+        private int[] parents;
+        private int[] parentPositions;
+        private int head;
+        private int tail;
+    }
+
+    private static class DepthFirstIterator<V, E extends Edge<V>> implements Iterator<Visit<V, E>> {
+
+        DepthFirstIterator(Adjacency<V, E> adjacency, int start) {
+            this.adjacency = adjacency;
+            int capacity = Math.max(adjacency.getVertexCount(), INITIAL_CAPACITY);
+            vertexStack = new int[capacity];
+            cursors = new int[capacity];
+            visited = new BitSet(adjacency.getVertexCount());
+            pending = start;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (pending == NONE) {
+                pending = discover();
+            }
+            return pending != NONE;
+        }
+
+        @Override
+        public Visit<V, E> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            int vertex = pending;
+            pending = NONE;
+            Visit<V, E> visit = (top < 0)
+                ? visit(adjacency, vertex, 0, NONE, NONE)
+                : visit(adjacency, vertex, top + 1, vertexStack[top], cursors[top] - 1);
+            top++;
+            vertexStack = ensureCapacity(vertexStack, top);
+            cursors = ensureCapacity(cursors, top);
+            vertexStack[top] = vertex;
+            cursors[top] = 0;
+            visited.set(vertex);
+            return visit;
+        }
+
+        /**
+         * Find the next unvisited vertex that is adjacent to the deepest vertex on the stack, backtracking from exhausted vertices.
+         * The cursor of the deepest vertex is left just past the edge that leads to the found vertex.
+         */
+        private int discover() {
+            while (top >= 0) {
+                int vertex = vertexStack[top];
+                while (cursors[top] < adjacency.getIncidenceCount(vertex)) {
+                    int next = adjacency.traverse(vertex, cursors[top]++);
+                    if (next != NONE && !visited.get(next)) {
+                        return next;
+                    }
+                }
+                top--;
+            }
+            return NONE;
+        }
+
+        private final Adjacency<V, E> adjacency;
+        private final BitSet visited;
+        private int[] vertexStack;
+        private int[] cursors;
+        private int top = -1;
+        private int pending;
+    }
+
+    private static <V, E extends Edge<V>> Visit<V, E> visit(Adjacency<V, E> adjacency, int vertex, int depth, int parent, int position) {
+        if (parent == NONE) {
+            return new Visit<>(adjacency.getVertex(vertex), depth, null, null);
+        }
+        return new Visit<>(adjacency.getVertex(vertex), depth, adjacency.getVertex(parent), adjacency.getIncidentEdge(parent, position));
+    }
+
+    private static final int NONE = -1;
+    private static final int INITIAL_CAPACITY = 16;
+
+}
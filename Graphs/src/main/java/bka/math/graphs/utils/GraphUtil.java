@@ -60,7 +60,7 @@ public final class GraphUtil {
      * @return the number of edges from given graph that are incident on given vertex, where a loop is counted twice.
      */
     public static <V> long degree(GraphBase<V, Edge<V>> graph, V vertex) {
-        return graph.getEdges().stream()
+        return graph.getIncidentEdges(vertex).stream()
             .map(count(vertex))
             .reduce(0L, (total, count) -> total + count);
     }
@@ -69,6 +69,19 @@ public final class GraphUtil {
         return edge -> edge.getVertices().stream().filter(vertex::equals).count();
     }
     
+    /**
+     * @param <V> vertex type
+     * @param <E> edge type
+     * @param graph
+     * @param vertex
+     * @return all vertices joined to given vertex by an edge of given graph, including the vertex itself if it has a loop.
+     */
+    public static <V, E extends Edge<V>> Set<V> adjacentVertices(GraphBase<V, E> graph, V vertex) {
+        Set<V> adjacent = new HashSet<>();
+        graph.getIncidentEdges(vertex).forEach(edge -> adjacent.add(EdgeUtil.getAdjacentVertex(edge, vertex)));
+        return adjacent;
+    }
+
     public static <V, E extends Edge<V>> List<V> vertexPath(List<E> edgePath, V start) {
         if (edgePath.isEmpty()) {
             return Collections.emptyList();
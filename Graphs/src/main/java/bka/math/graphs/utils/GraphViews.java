@@ -0,0 +1,176 @@
+/*
+** © Bart Kampers
+** This code may not be used for any purpose that harms humans (including
+** exploitation and discrimination), humanity, the environment or the
+** universe.
+*/
+
+package bka.math.graphs.utils;
+
+import bka.math.graphs.*;
+import java.util.*;
+import java.util.function.*;
+
+/**
+ * Read-only views of parts of a graph. Views do not copy vertices or edges; they filter the sets of the underlying graph
+ * whenever they are queried, using the underlying incidence index if there is one. Changes of the underlying graph show through.
+ * Sizes of the vertex and edge sets of a view are counted by iterating them.
+ */
+public final class GraphViews {
+
+    private GraphViews() {
+    }
+
+    /**
+     * @param <V> vertex type
+     * @param <E> edge type
+     * @param graph
+     * @param vertexFilter
+     * @return view of the subgraph of given graph induced by the vertices that pass given filter,
+     *         that is these vertices and all edges that connect them.
+     */
+    public static <V, E extends Edge<V>> GraphBase<V, E> induced(GraphBase<V, E> graph, Predicate<? super V> vertexFilter) {
+        Objects.requireNonNull(graph);
+        Objects.requireNonNull(vertexFilter);
+        Predicate<E> edgeFilter = edge -> connects(edge, vertexFilter);
+        return new GraphBase<>() {
+
+            @Override
+            public Set<V> getVertices() {
+                return new FilteredSet<>(graph.getVertices(), vertexFilter);
+            }
+
+            @Override
+            public Set<E> getEdges() {
+                return new FilteredSet<>(graph.getEdges(), edgeFilter);
+            }
+
+            @Override
+            public Set<E> getIncidentEdges(V vertex) {
+                return (vertexFilter.test(vertex)) ? new FilteredSet<>(graph.getIncidentEdges(vertex), edgeFilter) : Collections.emptySet();
+            }
+
+            @Override
+            public Set<E> getOutgoingEdges(V vertex) {
+                return (vertexFilter.test(vertex)) ? new FilteredSet<>(graph.getOutgoingEdges(vertex), edgeFilter) : Collections.emptySet();
+            }
+
+            @Override
+            public Set<E> getIncomingEdges(V vertex) {
+                return (vertexFilter.test(vertex)) ? new FilteredSet<>(graph.getIncomingEdges(vertex), edgeFilter) : Collections.emptySet();
+            }
+
+        };
+    }
+
+    /**
+     * @param <V> vertex type
+     * @param <E> edge type
+     * @param graph
+     * @param edgeFilter
+     * @return view of given graph that contains all of its vertices and the edges that pass given filter.
+     */
+    public static <V, E extends Edge<V>> GraphBase<V, E> edgeFiltered(GraphBase<V, E> graph, Predicate<? super E> edgeFilter) {
+        Objects.requireNonNull(graph);
+        Objects.requireNonNull(edgeFilter);
+        return new GraphBase<>() {
+
+            @Override
+            public Set<V> getVertices() {
+                return Collections.unmodifiableSet(graph.getVertices());
+            }
+
+            @Override
+            public Set<E> getEdges() {
+                return new FilteredSet<>(graph.getEdges(), edgeFilter);
+            }
+
+            @Override
+            public Set<E> getIncidentEdges(V vertex) {
+                return new FilteredSet<>(graph.getIncidentEdges(vertex), edgeFilter);
+            }
+
+            @Override
+            public Set<E> getOutgoingEdges(V vertex) {
+                return new FilteredSet<>(graph.getOutgoingEdges(vertex), edgeFilter);
+            }
+
+            @Override
+            public Set<E> getIncomingEdges(V vertex) {
+                return new FilteredSet<>(graph.getIncomingEdges(vertex), edgeFilter);
+            }
+
+        };
+    }
+
+    private static <V> boolean connects(Edge<V> edge, Predicate<? super V> vertexFilter) {
+        for (V vertex : edge.getVertices()) {
+            if (!vertexFilter.test(vertex)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static class FilteredSet<T> extends AbstractSet<T> {
+
+        FilteredSet(Set<T> set, Predicate<? super T> filter) {
+            this.set = set;
+            this.filter = filter;
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            Iterator<T> iterator = set.iterator();
+            return new Iterator<>() {
+
+                @Override
+                public boolean hasNext() {
+                    while (next == null && iterator.hasNext()) {
+                        T element = iterator.next();
+                        if (filter.test(element)) {
+                            next = element;
+                        }
+                    }
+                    return next != null;
+                }
+
+                @Override
+                public T next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    T element = next;
+                    next = null;
+                    return element;
+                }
+
+                private T next;
+            };
+        }
+
+        @Override
+        public int size() {
+            int size = 0;
+            for (Iterator<T> iterator = iterator(); iterator.hasNext(); iterator.next()) {
+                size++;
+            }
+            return size;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return !iterator().hasNext();
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public boolean contains(Object object) {
+            return set.contains(object) && filter.test((T) object);
+        }
+
+        private final Set<T> set;
+        private final Predicate<? super T> filter;
+    }
+
+}
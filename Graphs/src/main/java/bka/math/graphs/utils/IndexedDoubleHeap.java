@@ -0,0 +1,149 @@
+/*
+** © Bart Kampers
+** This code may not be used for any purpose that harms humans (including
+** exploitation and discrimination), humanity, the environment or the
+** universe.
+*/
+
+package bka.math.graphs.utils;
+
+import java.util.*;
+
+/**
+ * Binary min heap of int indices ranging from 0 to a fixed capacity, ordered by double keys.
+ * Keys of contained indices can be updated in logarithmic time. Backed by primitive arrays, does not allocate after construction.
+ */
+public final class IndexedDoubleHeap {
+
+    /**
+     * @param capacity upper bound (exclusive) of indices this heap can contain
+     */
+    public IndexedDoubleHeap(int capacity) {
+        heap = new int[capacity];
+        positions = new int[capacity];
+        keys = new double[capacity];
+        Arrays.fill(positions, ABSENT);
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean contains(int index) {
+        return positions[index] != ABSENT;
+    }
+
+    /**
+     * @param index
+     * @return key of given index, undefined if this heap does not contain the index
+     */
+    public double getKey(int index) {
+        return keys[index];
+    }
+
+    /**
+     * Insert given index with given key, or update the key if this heap already contains the index.
+     * @param index
+     * @param key
+     */
+    public void put(int index, double key) {
+        if (contains(index)) {
+            double old = keys[index];
+            keys[index] = key;
+            if (key < old) {
+                siftUp(positions[index]);
+            }
+            else {
+                siftDown(positions[index]);
+            }
+        }
+        else {
+            keys[index] = key;
+            heap[size] = index;
+            positions[index] = size;
+            siftUp(size++);
+        }
+    }
+
+    /**
+     * @return index with the smallest key
+     * @throws NoSuchElementException if this heap is empty
+     */
+    public int peek() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return heap[0];
+    }
+
+    /**
+     * Remove the index with the smallest key.
+     * @return removed index
+     * @throws NoSuchElementException if this heap is empty
+     */
+    public int poll() {
+        int index = peek();
+        size--;
+        positions[index] = ABSENT;
+        if (size > 0) {
+            heap[0] = heap[size];
+            positions[heap[0]] = 0;
+            siftDown(0);
+        }
+        return index;
+    }
+
+    public void clear() {
+        for (int i = 0; i < size; ++i) {
+            positions[heap[i]] = ABSENT;
+        }
+        size = 0;
+    }
+
+    private void siftUp(int position) {
+        int index = heap[position];
+        while (position > 0) {
+            int parent = (position - 1) / 2;
+            if (keys[heap[parent]] <= keys[index]) {
+                break;
+            }
+            move(heap[parent], position);
+            position = parent;
+        }
+        move(index, position);
+    }
+
+    private void siftDown(int position) {
+        int index = heap[position];
+        int half = size / 2;
+        while (position < half) {
+            int child = 2 * position + 1;
+            if (child + 1 < size && keys[heap[child + 1]] < keys[heap[child]]) {
+                child++;
+            }
+            if (keys[index] <= keys[heap[child]]) {
+                break;
+            }
+            move(heap[child], position);
+            position = child;
+        }
+        move(index, position);
+    }
+
+    private void move(int index, int position) {
+        heap[position] = index;
+        positions[index] = position;
+    }
+
+    private final int[] heap;
+    private final int[] positions;
+    private final double[] keys;
+    private int size;
+
+    private static final int ABSENT = -1;
+
+}
@@ -0,0 +1,126 @@
+/*
+** © Bart Kampers
+** This code may not be used for any purpose that harms humans (including
+** exploitation and discrimination), humanity, the environment or the
+** universe.
+*/
+
+package bka.math.graphs.utils;
+
+import java.util.*;
+
+/**
+ * Disjoint sets of int elements ranging from 0 to the number of added elements.
+ * Uses union by rank and path halving, so operations take nearly constant amortized time.
+ * Backed by primitive arrays that grow when elements are added.
+ * @see <a href="https://en.wikipedia.org/wiki/Disjoint-set_data_structure">Disjoint-set data structure on Wikipedia</a>
+ */
+public final class UnionFind {
+
+    public UnionFind() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param capacity initial number of elements this union find can contain without growing
+     */
+    public UnionFind(int capacity) {
+        parents = new int[Math.max(capacity, 1)];
+        ranks = new byte[parents.length];
+    }
+
+    /**
+     * Add a new element in a singleton set.
+     * @return the new element
+     */
+    public int add() {
+        if (size == parents.length) {
+            parents = Arrays.copyOf(parents, size * 2);
+            ranks = Arrays.copyOf(ranks, size * 2);
+        }
+        parents[size] = size;
+        ranks[size] = 0;
+        setCount++;
+        return size++;
+    }
+
+    /**
+     * @return number of elements
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return number of disjoint sets
+     */
+    public int getSetCount() {
+        return setCount;
+    }
+
+    /**
+     * @param element
+     * @return representative element of the set that contains given element
+     * @throws IndexOutOfBoundsException if given element has not been added
+     */
+    public int find(int element) {
+        Objects.checkIndex(element, size);
+        while (parents[element] != element) {
+            parents[element] = parents[parents[element]];
+            element = parents[element];
+        }
+        return element;
+    }
+
+    /**
+     * Merge the sets that contain given elements.
+     * @param element1
+     * @param element2
+     * @return true if the elements were in different sets
+     * @throws IndexOutOfBoundsException if any of given elements has not been added
+     */
+    public boolean union(int element1, int element2) {
+        int root1 = find(element1);
+        int root2 = find(element2);
+        if (root1 == root2) {
+            return false;
+        }
+        if (ranks[root1] < ranks[root2]) {
+            parents[root1] = root2;
+        }
+        else {
+            parents[root2] = root1;
+            if (ranks[root1] == ranks[root2]) {
+                ranks[root1]++;
+            }
+        }
+        setCount--;
+        return true;
+    }
+
+    /**
+     * @param element1
+     * @param element2
+     * @return true if given elements are in the same set
+     * @throws IndexOutOfBoundsException if any of given elements has not been added
+     */
+    public boolean connected(int element1, int element2) {
+        return find(element1) == find(element2);
+    }
+
+    /**
+     * Remove all elements.
+     */
+    public void clear() {
+        size = 0;
+        setCount = 0;
+    }
+
+    private int[] parents;
+    private byte[] ranks;
+    private int size;
+    private int setCount;
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+}
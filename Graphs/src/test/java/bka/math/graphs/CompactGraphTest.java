@@ -0,0 +1,83 @@
+/*
+** © Bart Kampers
+*/
+
+package bka.math.graphs;
+
+import java.util.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.*;
+
+
+public class CompactGraphTest extends GraphTestBase {
+
+    @Test
+    public void testConstructEmpty() {
+        CompactGraph<String, Edge<String>> graph = new CompactGraph<>(Collections.emptyList());
+        assertTrue(graph.getVertices().isEmpty());
+        assertTrue(graph.getEdges().isEmpty());
+        assertEquals(0, graph.getVertexCount());
+        assertEquals(0, graph.getEdgeCount());
+        assertEquals(-1, graph.getVertexIndex("a"));
+    }
+
+    @Test
+    public void testConstructFromGraph() {
+        DefaultMutableGraph<Character> origin = new DefaultMutableGraph<>(List.of(AB, AC, BC, CC, DA));
+        origin.addVertex('z');
+        CompactGraph<Character, Edge<Character>> graph = new CompactGraph<>(origin);
+        assertEqualCollections(origin.getVertices(), graph.getVertices());
+        assertEqualCollections(origin.getEdges(), graph.getEdges());
+        assertTrue(graph.getVertices().contains('z'));
+        assertFalse(graph.getVertices().contains('y'));
+        assertTrue(graph.getEdges().contains(CC));
+        assertFalse(graph.getEdges().contains(new UndirectedEdge<>('a', 'b')));
+    }
+
+    @Test
+    public void testIncidence() {
+        CompactGraph<Character, Edge<Character>> graph = new CompactGraph<>(List.of(AB, AC, BC, CC, DA));
+        assertEqualCollections(List.of(AB, AC, DA), graph.getIncidentEdges('a'));
+        assertEqualCollections(List.of(AC, BC, CC), graph.getIncidentEdges('c'));
+        assertEqualCollections(List.of(), graph.getIncidentEdges('z'));
+        assertEqualCollections(List.of(DA), graph.getOutgoingEdges('d'));
+        assertEqualCollections(List.of(DA), graph.getIncomingEdges('a'));
+        assertEqualCollections(List.of(), graph.getOutgoingEdges('a'));
+        assertTrue(graph.getIncidentEdges('a').contains(DA));
+        assertFalse(graph.getIncidentEdges('b').contains(DA));
+    }
+
+    @Test
+    public void testIndices() {
+        CompactGraph<Character, Edge<Character>> graph = new CompactGraph<>(List.of(AB, AC, BC, CC, DA));
+        assertEquals(4, graph.getVertexCount());
+        assertEquals(5, graph.getEdgeCount());
+        int c = graph.getVertexIndex('c');
+        assertEquals('c', graph.getVertex(c));
+        assertEquals(3, graph.getIncidenceCount(c));
+        Set<Character> adjacent = new HashSet<>();
+        for (int i = 0; i < graph.getIncidenceCount(c); ++i) {
+            adjacent.add(graph.getVertex(graph.getAdjacentVertexIndex(graph.getIncidentEdgeIndex(c, i), c)));
+        }
+        assertEquals(Set.of('a', 'b', 'c'), adjacent);
+        int da = graph.getEdgeIndex(DA);
+        assertEquals(DA, graph.getEdge(da));
+        assertTrue(graph.isDirected(da));
+        assertFalse(graph.isDirected(graph.getEdgeIndex(AB)));
+        assertEquals('d', graph.getVertex(graph.getFirstVertexIndex(da)));
+        assertEquals('a', graph.getVertex(graph.getSecondVertexIndex(da)));
+        int d = graph.getVertexIndex('d');
+        assertEquals(1, graph.getOutgoingCount(d));
+        assertEquals(da, graph.getOutgoingEdgeIndex(d, 0));
+        assertEquals(0, graph.getIncomingCount(d));
+    }
+
+    private static final Edge<Character> AB = new UndirectedEdge<>('a', 'b');
+    private static final Edge<Character> AC = new UndirectedEdge<>('a', 'c');
+    private static final Edge<Character> BC = new UndirectedEdge<>('b', 'c');
+    private static final Edge<Character> CC = new UndirectedEdge<>('c', 'c');
+    private static final Edge<Character> DA = new DirectedEdge<>('d', 'a');
+
+}
@@ -0,0 +1,75 @@
+/*
+** © Bart Kampers
+*/
+package bka.math.graphs;
+
+import java.util.*;
+import java.util.concurrent.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.*;
+
+public class ConcurrentGraphTest {
+
+    @Test
+    public void testMutation() {
+        DirectedEdge<String> ab = new DirectedEdge<>("a", "b");
+        UndirectedEdge<String> bc = new UndirectedEdge<>("b", "c");
+        ConcurrentGraph<String, Edge<String>> graph = new ConcurrentGraph<>(List.of("x"), List.of(ab, bc));
+        assertEquals(Set.of("a", "b", "c", "x"), graph.getVertices());
+        assertEquals(Set.of(ab, bc), graph.getEdges());
+        assertFalse(graph.addEdge(ab));
+        assertFalse(graph.addVertex("x"));
+        assertEquals(Set.of(ab), graph.getOutgoingEdges("a"));
+        assertEquals(Set.of(ab), graph.getIncomingEdges("b"));
+        assertEquals(Set.of(ab, bc), graph.getIncidentEdges("b"));
+        assertTrue(graph.removeVertex("b"));
+        assertFalse(graph.removeVertex("b"));
+        assertEquals(Set.of("a", "c", "x"), graph.getVertices());
+        assertTrue(graph.getEdges().isEmpty());
+        assertTrue(graph.getIncidentEdges("a").isEmpty());
+        assertTrue(graph.getOutgoingEdges("a").isEmpty());
+        graph.clear();
+        assertTrue(graph.getVertices().isEmpty());
+    }
+
+    @Test
+    public void testSnapshot() {
+        ConcurrentGraph<Integer, Edge<Integer>> graph = new ConcurrentGraph<>(List.of(new UndirectedEdge<>(1, 2)));
+        GraphBase<Integer, Edge<Integer>> snapshot = graph.snapshot();
+        Edge<Integer> edge = new UndirectedEdge<>(2, 3);
+        graph.addEdge(edge);
+        graph.removeVertex(1);
+        assertEquals(Set.of(1, 2), snapshot.getVertices());
+        assertEquals(1, snapshot.getEdges().size());
+        assertEquals(Set.of(2, 3), graph.getVertices());
+        assertEquals(Set.of(edge), graph.getEdges());
+    }
+
+    @Test
+    public void testConcurrentWriters() throws InterruptedException, ExecutionException {
+        ConcurrentGraph<Integer, Edge<Integer>> graph = new ConcurrentGraph<>();
+        int threadCount = 4;
+        int edgesPerThread = 500;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threadCount; ++t) {
+            int offset = t * edgesPerThread;
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < edgesPerThread; ++i) {
+                    graph.addEdge(new UndirectedEdge<>(offset + i, offset + i + 1));
+                    GraphBase<Integer, Edge<Integer>> snapshot = graph.snapshot();
+                    snapshot.getEdges().forEach(edge -> assertTrue(snapshot.getVertices().containsAll(edge.getVertices())));
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+        assertEquals(threadCount * edgesPerThread, graph.getEdges().size());
+        assertEquals(threadCount * edgesPerThread + 1, graph.getVertices().size());
+    }
+
+}
@@ -4,6 +4,7 @@
 package bka.math.graphs;
 
 import java.util.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.*;
@@ -147,6 +148,47 @@ public class MutableGraphTest extends GraphTestBase {
         assertEqualCollections(List.of('a', 'b', 'c'), graph.getVertices());
     }
 
+    @Test
+    public void testIncidentEdges() {
+        Edge ab = new UndirectedEdge('a', 'b');
+        Edge ac = new UndirectedEdge('a', 'c');
+        Edge bc = new UndirectedEdge('b', 'c');
+        Edge cc = new UndirectedEdge('c', 'c');
+        graph = new MutableGraph(List.of(ab, ac, bc, cc));
+        graph.addVertex('d');
+        assertEqualCollections(List.of(ab, ac), graph.getIncidentEdges('a'));
+        assertEqualCollections(List.of(ac, bc, cc), graph.getIncidentEdges('c'));
+        assertEqualCollections(List.of(), graph.getIncidentEdges('d'));
+        assertEqualCollections(List.of(), graph.getIncidentEdges('z'));
+        graph.removeEdge(ac);
+        assertEqualCollections(List.of(ab), graph.getIncidentEdges('a'));
+        assertEqualCollections(List.of(bc, cc), graph.getIncidentEdges('c'));
+        graph.removeVertex('c');
+        assertEqualCollections(List.of(ab), graph.getIncidentEdges('b'));
+        assertEqualCollections(List.of(), graph.getIncidentEdges('c'));
+        assertEqualCollections(List.of(ab), graph.getEdges());
+    }
+
+    @Test
+    public void testDirectedIncidence() {
+        Edge ab = new DirectedEdge('a', 'b');
+        Edge ba = new DirectedEdge('b', 'a');
+        Edge bc = new DirectedEdge('b', 'c');
+        Edge ac = new UndirectedEdge('a', 'c');
+        graph = new MutableGraph(List.of(ab, ba, bc, ac));
+        assertEqualCollections(List.of(ab), graph.getOutgoingEdges('a'));
+        assertEqualCollections(List.of(ba), graph.getIncomingEdges('a'));
+        assertEqualCollections(List.of(ba, bc), graph.getOutgoingEdges('b'));
+        assertEqualCollections(List.of(ab), graph.getIncomingEdges('b'));
+        assertEqualCollections(List.of(), graph.getOutgoingEdges('c'));
+        assertEqualCollections(List.of(bc), graph.getIncomingEdges('c'));
+        graph.removeVertex('a');
+        assertEqualCollections(List.of(bc), graph.getOutgoingEdges('b'));
+        assertEqualCollections(List.of(), graph.getIncomingEdges('b'));
+        assertEqualCollections(List.of(), graph.getIncidentEdges('a'));
+        assertEqualCollections(List.of(bc), graph.getIncidentEdges('c'));
+    }
+
     @Test
     public void testClear() {
         graph = new MutableGraph(
@@ -157,6 +199,48 @@ public class MutableGraphTest extends GraphTestBase {
         assertTrue(graph.getVertices().isEmpty());
     }
 
+    @Test
+    public void testListener() {
+        graph = new MutableGraph(List.of(new UndirectedEdge('a', 'b')));
+        List<String> notifications = new ArrayList<>();
+        GraphListener listener = new GraphListener() {
+            @Override
+            public void vertexAdded(Object vertex) {
+                notifications.add("+" + vertex);
+            }
+
+            @Override
+            public void edgeAdded(Edge edge) {
+                notifications.add("+" + edge);
+            }
+
+            @Override
+            public void vertexRemoved(Object vertex) {
+                notifications.add("-" + vertex);
+            }
+
+            @Override
+            public void edgeRemoved(Edge edge) {
+                notifications.add("-" + edge);
+            }
+
+            @Override
+            public void cleared() {
+                notifications.add("clear");
+            }
+        };
+        graph.addListener(listener);
+        Edge bc = new UndirectedEdge('b', 'c');
+        graph.addEdge(bc);
+        graph.addEdge(bc);
+        graph.removeVertex('c');
+        graph.addVertex('a');
+        graph.clear();
+        graph.removeListener(listener);
+        graph.addVertex('d');
+        assertEquals(List.of("+c", "+" + bc, "-" + bc, "-c", "clear"), notifications);
+    }
+
     private MutableGraph graph;
 
 }
@@ -0,0 +1,62 @@
+/*
+** © Bart Kampers
+*/
+package bka.math.graphs;
+
+import java.util.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.*;
+
+public class PersistentGraphTest {
+
+    @Test
+    public void testVersions() {
+        DirectedEdge<String> ab = new DirectedEdge<>("a", "b");
+        UndirectedEdge<String> bc = new UndirectedEdge<>("b", "c");
+        PersistentGraph<String, Edge<String>> original = new PersistentGraph<>(List.of("x"), List.of(ab));
+        PersistentGraph<String, Edge<String>> extended = original.withEdge(bc);
+        PersistentGraph<String, Edge<String>> reduced = extended.withoutVertex("b");
+        assertEquals(Set.of("a", "b", "x"), original.getVertices());
+        assertEquals(Set.of(ab), original.getEdges());
+        assertEquals(Set.of("a", "b", "c", "x"), extended.getVertices());
+        assertEquals(Set.of(ab, bc), extended.getIncidentEdges("b"));
+        assertEquals(Set.of(ab), extended.getOutgoingEdges("a"));
+        assertEquals(Set.of(ab), extended.getIncomingEdges("b"));
+        assertEquals(Set.of("a", "c", "x"), reduced.getVertices());
+        assertTrue(reduced.getEdges().isEmpty());
+        assertTrue(reduced.getIncidentEdges("c").isEmpty());
+        assertTrue(reduced.getOutgoingEdges("a").isEmpty());
+        assertEquals(Set.of("a", "b", "c"), extended.withoutEdge(bc).withoutVertex("x").getVertices());
+    }
+
+    @Test
+    public void testUnchanged() {
+        Edge<Integer> edge = new UndirectedEdge<>(1, 2);
+        PersistentGraph<Integer, Edge<Integer>> graph = new PersistentGraph<>(List.of(edge));
+        assertSame(graph, graph.withEdge(edge));
+        assertSame(graph, graph.withVertex(1));
+        assertSame(graph, graph.withoutVertex(3));
+        assertSame(graph, graph.withoutEdge(new UndirectedEdge<>(1, 2)));
+    }
+
+    @Test
+    public void testVariants() {
+        PersistentGraph<Integer, Edge<Integer>> base = new PersistentGraph<>();
+        for (int i = 0; i < 1000; ++i) {
+            base = base.withEdge(new UndirectedEdge<>(i, i + 1));
+        }
+        List<PersistentGraph<Integer, Edge<Integer>>> variants = new ArrayList<>();
+        for (int i = 0; i < 100; ++i) {
+            variants.add(base.withEdge(new UndirectedEdge<>(i, -1)));
+        }
+        assertEquals(1000, base.getEdges().size());
+        for (int i = 0; i < variants.size(); ++i) {
+            assertEquals(1001, variants.get(i).getEdges().size());
+            assertEquals(1, variants.get(i).getIncidentEdges(-1).size());
+            assertEquals(i, variants.get(i).getIncidentEdges(-1).iterator().next().getVertices().iterator().next());
+        }
+    }
+
+}
@@ -0,0 +1,103 @@
+/*
+** © Bart Kampers
+*/
+
+package bka.math.graphs;
+
+import java.util.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.*;
+
+public class PersistentMapTest {
+
+    @Test
+    public void testPersistence() {
+        PersistentMap<String, Integer> empty = new PersistentMap<>();
+        PersistentMap<String, Integer> one = empty.with("one", 1);
+        PersistentMap<String, Integer> two = one.with("two", 2);
+        assertTrue(empty.isEmpty());
+        assertEquals(1, one.size());
+        assertEquals(2, two.size());
+        assertNull(one.get("two"));
+        assertEquals(2, two.get("two"));
+        assertSame(two, two.with("two", 2));
+        assertSame(two, two.without("three"));
+        PersistentMap<String, Integer> changed = two.with("one", -1);
+        assertEquals(2, changed.size());
+        assertEquals(-1, changed.get("one"));
+        assertEquals(1, two.get("one"));
+        PersistentMap<String, Integer> removed = two.without("one");
+        assertFalse(removed.containsKey("one"));
+        assertTrue(two.containsKey("one"));
+        assertEquals(Map.of("one", 1, "two", 2), two.asMap());
+    }
+
+    @Test
+    public void testRandom() {
+        Random random = new Random(7);
+        Map<Integer, Integer> expected = new HashMap<>();
+        PersistentMap<Integer, Integer> map = new PersistentMap<>();
+        for (int i = 0; i < 20000; ++i) {
+            int key = random.nextInt(5000) - 2500;
+            if (random.nextInt(3) == 0) {
+                expected.remove(key);
+                map = map.without(key);
+            }
+            else {
+                expected.put(key, i);
+                map = map.with(key, i);
+            }
+        }
+        assertEquals(expected.size(), map.size());
+        assertEquals(expected, map.asMap());
+        assertEquals(expected.keySet(), map.asMap().keySet());
+    }
+
+    @Test
+    public void testCollisions() {
+        List<Collider> keys = new ArrayList<>();
+        PersistentMap<Collider, String> map = new PersistentMap<>();
+        for (int i = 0; i < 10; ++i) {
+            keys.add(new Collider(i));
+            map = map.with(keys.get(i), Integer.toString(i));
+        }
+        assertEquals(10, map.size());
+        for (int i = 0; i < 10; ++i) {
+            assertEquals(Integer.toString(i), map.get(new Collider(i)));
+        }
+        for (int i = 0; i < 10; i += 2) {
+            map = map.without(keys.get(i));
+        }
+        assertEquals(5, map.size());
+        assertFalse(map.containsKey(new Collider(0)));
+        assertTrue(map.containsKey(new Collider(1)));
+        for (int i = 1; i < 10; i += 2) {
+            map = map.without(keys.get(i));
+        }
+        assertTrue(map.isEmpty());
+        assertFalse(map.iterator().hasNext());
+    }
+
+    @Test
+    public void testSet() {
+        PersistentSet<String> set = new PersistentSet<String>().with("a").with("b");
+        assertEquals(Set.of("a", "b"), set.asSet());
+        assertSame(set, set.with("a"));
+        assertEquals(Set.of("b"), set.without("a").asSet());
+        assertTrue(set.contains("a"));
+    }
+
+    private record Collider(int id) {
+
+        @Override
+        public int hashCode() {
+            return 42;
+        }
+
+    }
+
+}
@@ -0,0 +1,33 @@
+/*
+** © Bart Kampers
+*/
+
+package bka.math.graphs;
+
+import java.util.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.*;
+
+public class VertexIndexTest {
+
+    @Test
+    public void testIntern() {
+        VertexIndex<String> index = new VertexIndex<>(List.of("a", "b"));
+        assertEquals(2, index.size());
+        assertEquals(0, index.intern("a"));
+        assertEquals(2, index.intern("c"));
+        assertEquals(2, index.intern("c"));
+        assertEquals(1, index.getId("b"));
+        assertEquals(-1, index.getId("d"));
+        assertTrue(index.contains("c"));
+        assertFalse(index.contains("d"));
+        assertEquals("c", index.getVertex(2));
+        assertEquals(List.of("a", "b", "c"), index.getVertices());
+        assertThrows(IndexOutOfBoundsException.class, () -> index.getVertex(3));
+        assertThrows(NullPointerException.class, () -> index.intern(null));
+    }
+
+}
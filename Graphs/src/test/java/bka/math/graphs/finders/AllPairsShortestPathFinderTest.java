@@ -0,0 +1,120 @@
+package bka.math.graphs.finders;
+
+import bka.math.graphs.*;
+import bka.math.graphs.utils.*;
+import java.util.*;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AllPairsShortestPathFinderTest {
+
+    @Test
+    public void testSmallGraph() {
+        for (AllPairsShortestPathFinder.Algorithm algorithm : AllPairsShortestPathFinder.Algorithm.values()) {
+            assertSmallGraph(algorithm);
+        }
+    }
+
+    @Test
+    public void testRandomGraph() {
+        for (AllPairsShortestPathFinder.Algorithm algorithm : AllPairsShortestPathFinder.Algorithm.values()) {
+            assertRandomGraph(algorithm);
+        }
+    }
+
+    private void assertSmallGraph(AllPairsShortestPathFinder.Algorithm algorithm) {
+        ImmutableGraph<String, Road> map = new ImmutableGraph<>(List.of(
+            new Road("A", "B", 5.0),
+            new Road("B", "C", 2.5),
+            new Road("A", "C", 3.0),
+            new Road("B", "D", 3.0),
+            new Road("C", "D", 3.0),
+            new Road("E", "E", 1.0)));
+        AllPairsShortestPathFinder<String, Road> finder = new AllPairsShortestPathFinder<>(Road::getLength);
+        finder.setAlgorithm(algorithm);
+        DistanceMatrix<String, Road> matrix = finder.find(map);
+        assertEquals(6.0, matrix.getDistance("A", "D"));
+        assertEquals(6.0, matrix.getDistance("D", "A"));
+        assertEquals(0.0, matrix.getDistance("E", "E"));
+        assertEquals(Double.POSITIVE_INFINITY, matrix.getDistance("A", "E"));
+        assertEquals(Double.POSITIVE_INFINITY, matrix.getDistance("A", "Z"));
+        assertTrue(matrix.isReachable("B", "A"));
+        assertFalse(matrix.isReachable("E", "A"));
+        assertEquals(List.of("A", "C", "D"), GraphUtil.vertexPath(matrix.getPath("A", "D"), "A"));
+        assertEquals(List.of("D", "C", "A"), GraphUtil.vertexPath(matrix.getPath("D", "A"), "D"));
+        assertTrue(matrix.getPath("A", "A").isEmpty());
+        assertTrue(matrix.getPath("A", "E").isEmpty());
+        ShortestPathTree<String, Road> tree = matrix.getShortestPathTree("B");
+        assertEquals(List.of("B", "D"), GraphUtil.vertexPath(tree.getPath("D"), "B"));
+        assertThrows(NoSuchElementException.class, () -> matrix.getShortestPathTree("Z"));
+    }
+
+    private void assertRandomGraph(AllPairsShortestPathFinder.Algorithm algorithm) {
+        Random random = new Random(17);
+        Map<Edge<Integer>, Double> weights = new HashMap<>();
+        List<Edge<Integer>> edges = new ArrayList<>();
+        for (int i = 0; i < 600; ++i) {
+            int first = random.nextInt(150);
+            int second = random.nextInt(150);
+            Edge<Integer> edge = (random.nextBoolean()) ? new DirectedEdge<>(first, second) : new UndirectedEdge<>(first, second);
+            weights.put(edge, (double) random.nextInt(10));
+            edges.add(edge);
+        }
+        ImmutableGraph<Integer, Edge<Integer>> graph = new ImmutableGraph<>(edges);
+        AllPairsShortestPathFinder<Integer, Edge<Integer>> finder = new AllPairsShortestPathFinder<>(weights::get);
+        finder.setAlgorithm(algorithm);
+        DistanceMatrix<Integer, Edge<Integer>> matrix = finder.find(graph);
+        ShortestPathFinder<Integer, Edge<Integer>> singleSourceFinder = new ShortestPathFinder<>(weights::get);
+        for (Integer start : graph.getVertices()) {
+            ShortestPathTree<Integer, Edge<Integer>> tree = singleSourceFinder.findAll(graph, start);
+            for (Integer end : graph.getVertices()) {
+                assertEquals(tree.getDistance(end), matrix.getDistance(start, end));
+                List<Edge<Integer>> path = matrix.getPath(start, end);
+                if (!path.isEmpty()) {
+                    assertEquals(tree.getDistance(end), pathWeight(path, weights));
+                    assertEquals(end, GraphUtil.vertexPath(path, start).getLast());
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testUnweighted() {
+        Digraph<String> graph = new DefaultMutableDigraph<>(List.of(
+            new DirectedEdge<>("A", "B"),
+            new DirectedEdge<>("B", "C"),
+            new DirectedEdge<>("C", "A")));
+        AllPairsShortestPathFinder<String, DirectedEdge<String>> finder = new AllPairsShortestPathFinder<>();
+        DistanceMatrix<String, DirectedEdge<String>> matrix = finder.find(graph);
+        assertEquals(2.0, matrix.getDistance("A", "C"));
+        assertEquals(1.0, matrix.getDistance("C", "A"));
+        finder.setAlgorithm(AllPairsShortestPathFinder.Algorithm.DIJKSTRA);
+        assertEquals(List.of("A", "B", "C"), GraphUtil.vertexPath(finder.find(graph).getPath("A", "C"), "A"));
+    }
+
+    @Test
+    public void testNegativeWeight() {
+        Digraph<String> graph = new DefaultMutableDigraph<>(List.of(new DirectedEdge<>("A", "B")));
+        AllPairsShortestPathFinder<String, DirectedEdge<String>> finder = new AllPairsShortestPathFinder<>(edge -> -1.0);
+        assertThrows(IllegalArgumentException.class, () -> finder.find(graph));
+    }
+
+    private static double pathWeight(List<Edge<Integer>> path, Map<Edge<Integer>, Double> weights) {
+        return path.stream().mapToDouble(weights::get).sum();
+    }
+
+    private class Road extends UndirectedEdge<String> {
+
+        public Road(String name1, String name2, double length) {
+            super(name1, name2);
+            this.length = length;
+        }
+
+        public double getLength() {
+            return length;
+        }
+
+        private final double length;
+    }
+
+}
@@ -22,6 +22,9 @@ public class BridgePuzzle {
             Collection<List<UndirectedEdge<String>>> trails = GraphExplorer.undirected().findAllTrails(map, vertex);
             assertTrue(trails.stream().noneMatch(containsAllEdges(map)));
         });
+        EulerFinder<String, Edge<String>> finder = new EulerFinder<>();
+        assertFalse(finder.hasTrail(map));
+        assertEquals(map.getVertices(), finder.getUnbalancedVertices(map));
     }
 
     private static Predicate<List<UndirectedEdge<String>>> containsAllEdges(Graph<String> map) {
@@ -0,0 +1,112 @@
+package bka.math.graphs.finders;
+
+import bka.math.graphs.*;
+import bka.math.graphs.utils.*;
+import java.util.*;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DigraphAnalyzerTest {
+
+    @Test
+    public void testStrongComponents() {
+        Digraph<String> graph = new DefaultMutableDigraph<>(List.of(
+            new DirectedEdge<>("a", "b"),
+            new DirectedEdge<>("b", "c"),
+            new DirectedEdge<>("c", "a"),
+            new DirectedEdge<>("c", "d"),
+            new DirectedEdge<>("d", "e"),
+            new DirectedEdge<>("e", "d"),
+            new DirectedEdge<>("e", "f")));
+        List<Set<String>> components = analyzer.findStrongComponents(graph);
+        assertEquals(List.of(Set.of("f"), Set.of("d", "e"), Set.of("a", "b", "c")), components);
+        assertTrue(analyzer.findStrongComponents(new DefaultMutableDigraph<>()).isEmpty());
+    }
+
+    @Test
+    public void testTopologicalOrder() {
+        Digraph<String> graph = new DefaultMutableDigraph<>(List.of(
+            new DirectedEdge<>("shirt", "tie"),
+            new DirectedEdge<>("tie", "jacket"),
+            new DirectedEdge<>("trousers", "shoes"),
+            new DirectedEdge<>("trousers", "belt"),
+            new DirectedEdge<>("belt", "jacket"),
+            new DirectedEdge<>("socks", "shoes"),
+            new DirectedEdge<>("shirt", "belt")));
+        List<String> sorted = analyzer.sortTopologically(graph);
+        assertEquals(graph.getVertices(), new HashSet<>(sorted));
+        graph.getEdges().forEach(edge -> assertTrue(sorted.indexOf(edge.getOrigin()) < sorted.indexOf(edge.getTerminus()), edge.toString()));
+        assertTrue(analyzer.isAcyclic(graph));
+        assertTrue(analyzer.findCycle(graph).isEmpty());
+    }
+
+    @Test
+    public void testCycle() {
+        Digraph<String> graph = new DefaultMutableDigraph<>(List.of(
+            new DirectedEdge<>("a", "b"),
+            new DirectedEdge<>("b", "c"),
+            new DirectedEdge<>("c", "d"),
+            new DirectedEdge<>("d", "b")));
+        assertThrows(IllegalArgumentException.class, () -> analyzer.sortTopologically(graph));
+        assertFalse(analyzer.isAcyclic(graph));
+        List<DirectedEdge<String>> cycle = analyzer.findCycle(graph);
+        assertEquals(3, cycle.size());
+        assertEquals(List.of("b", "c", "d", "b"), GraphUtil.vertexPath(cycle, "b"));
+    }
+
+    @Test
+    public void testLoop() {
+        DirectedEdge<String> loop = new DirectedEdge<>("b", "b");
+        Digraph<String> graph = new DefaultMutableDigraph<>(List.of(new DirectedEdge<>("a", "b"), loop));
+        assertEquals(List.of(loop), analyzer.findCycle(graph));
+        assertEquals(List.of(Set.of("b"), Set.of("a")), analyzer.findStrongComponents(graph));
+    }
+
+    @Test
+    public void testElementaryCycles() {
+        DirectedEdge<String> loop = new DirectedEdge<>("c", "c");
+        Digraph<String> graph = new DefaultMutableDigraph<>(List.of(
+            new DirectedEdge<>("a", "b"),
+            new DirectedEdge<>("b", "a"),
+            new DirectedEdge<>("b", "c"),
+            new DirectedEdge<>("c", "a"),
+            loop,
+            new DirectedEdge<>("c", "d"),
+            new DirectedEdge<>("d", "e"),
+            new DirectedEdge<>("e", "d"),
+            new DirectedEdge<>("e", "f")));
+        List<List<DirectedEdge<String>>> cycles = analyzer.streamElementaryCycles(graph).toList();
+        assertEquals(4, cycles.size());
+        Set<Set<String>> vertexSets = new HashSet<>();
+        for (List<DirectedEdge<String>> cycle : cycles) {
+            List<String> path = GraphUtil.vertexPath(cycle, cycle.getFirst().getOrigin());
+            assertEquals(path.getFirst(), path.getLast());
+            assertEquals(path.size() - 1, new HashSet<>(path).size(), path.toString());
+            vertexSets.add(new HashSet<>(path));
+        }
+        assertEquals(Set.of(Set.of("a", "b"), Set.of("a", "b", "c"), Set.of("c"), Set.of("d", "e")), vertexSets);
+        assertTrue(cycles.contains(List.of(loop)));
+        assertEquals(0, analyzer.streamElementaryCycles(new DefaultMutableDigraph<>(List.of(new DirectedEdge<>("a", "b")))).count());
+    }
+
+    @Test
+    public void testCompleteDigraphCycles() {
+        List<DirectedEdge<Integer>> edges = new ArrayList<>();
+        for (int i = 0; i < 5; ++i) {
+            for (int j = 0; j < 5; ++j) {
+                if (i != j) {
+                    edges.add(new DirectedEdge<>(i, j));
+                }
+            }
+        }
+        Digraph<Integer> graph = new DefaultMutableDigraph<>(edges);
+        DigraphAnalyzer<Integer, DirectedEdge<Integer>> integerAnalyzer = new DigraphAnalyzer<>();
+        Set<List<DirectedEdge<Integer>>> cycles = new HashSet<>(integerAnalyzer.streamElementaryCycles(graph).toList());
+        // Sum over k = 2..5 of C(5, k) * (k - 1)!
+        assertEquals(10 + 20 + 30 + 24, cycles.size());
+        assertEquals(3, integerAnalyzer.streamElementaryCycles(graph).limit(3).count());
+    }
+
+    private final DigraphAnalyzer<String, DirectedEdge<String>> analyzer = new DigraphAnalyzer<>();
+
+}
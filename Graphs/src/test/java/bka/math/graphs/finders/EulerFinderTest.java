@@ -0,0 +1,96 @@
+package bka.math.graphs.finders;
+
+import bka.math.graphs.*;
+import bka.math.graphs.utils.*;
+import java.util.*;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EulerFinderTest {
+
+    @Test
+    public void testUndirectedCircuit() {
+        Graph<String> graph = new DefaultMutableGraph<>(List.of(
+            new UndirectedEdge<>("a", "b"),
+            new UndirectedEdge<>("b", "c"),
+            new UndirectedEdge<>("c", "a"),
+            new UndirectedEdge<>("c", "d"),
+            new UndirectedEdge<>("d", "e"),
+            new UndirectedEdge<>("e", "c"),
+            new UndirectedEdge<>("e", "e")));
+        EulerFinder<String, Edge<String>> finder = new EulerFinder<>();
+        assertTrue(finder.getUnbalancedVertices(graph).isEmpty());
+        assertTrue(finder.hasCircuit(graph));
+        List<Edge<String>> circuit = finder.findCircuit(graph, "a");
+        assertEuler(graph, circuit, "a");
+        List<String> vertices = GraphUtil.vertexPath(circuit, "a");
+        assertEquals("a", vertices.getLast());
+    }
+
+    @Test
+    public void testUndirectedTrail() {
+        Graph<String> graph = new DefaultMutableGraph<>(List.of(
+            new UndirectedEdge<>("a", "b"),
+            new UndirectedEdge<>("b", "c"),
+            new UndirectedEdge<>("c", "a"),
+            new UndirectedEdge<>("c", "d")));
+        EulerFinder<String, Edge<String>> finder = new EulerFinder<>();
+        assertEquals(Set.of("c", "d"), finder.getUnbalancedVertices(graph));
+        assertTrue(finder.hasTrail(graph));
+        assertFalse(finder.hasCircuit(graph));
+        assertTrue(finder.findCircuit(graph).isEmpty());
+        assertTrue(finder.findTrail(graph, "a").isEmpty());
+        assertEuler(graph, finder.findTrail(graph, "d"), "d");
+        List<Edge<String>> trail = finder.findTrail(graph);
+        assertEuler(graph, trail, trail.getFirst().getVertices().contains("d") ? "d" : "c");
+    }
+
+    @Test
+    public void testDisconnected() {
+        Graph<String> graph = new DefaultMutableGraph<>(List.of(
+            new UndirectedEdge<>("a", "b"),
+            new UndirectedEdge<>("b", "a"),
+            new UndirectedEdge<>("c", "d"),
+            new UndirectedEdge<>("d", "c")));
+        EulerFinder<String, Edge<String>> finder = new EulerFinder<>();
+        assertTrue(finder.getUnbalancedVertices(graph).isEmpty());
+        assertFalse(finder.hasTrail(graph));
+        assertFalse(finder.hasCircuit(graph));
+    }
+
+    @Test
+    public void testDirected() {
+        Digraph<String> graph = new DefaultMutableDigraph<>(List.of(
+            new DirectedEdge<>("a", "b"),
+            new DirectedEdge<>("b", "c"),
+            new DirectedEdge<>("c", "a"),
+            new DirectedEdge<>("a", "d")));
+        EulerFinder<String, DirectedEdge<String>> finder = new EulerFinder<>();
+        assertEquals(Set.of("a", "d"), finder.getUnbalancedVertices(graph));
+        assertFalse(finder.hasCircuit(graph));
+        assertTrue(finder.findTrail(graph, "d").isEmpty());
+        List<DirectedEdge<String>> trail = finder.findTrail(graph);
+        assertEquals(List.of("a", "b", "c", "a", "d"), GraphUtil.vertexPath(trail, "a"));
+        graph = new DefaultMutableDigraph<>(List.of(
+            new DirectedEdge<>("a", "b"),
+            new DirectedEdge<>("b", "a"),
+            new DirectedEdge<>("b", "c"),
+            new DirectedEdge<>("c", "b")));
+        assertEquals(4, finder.findCircuit(graph, "c").size());
+    }
+
+    @Test
+    public void testMixed() {
+        Graph<String> graph = new DefaultMutableGraph<>(List.of(
+            new UndirectedEdge<>("a", "b"),
+            new DirectedEdge<>("b", "a")));
+        assertThrows(IllegalArgumentException.class, () -> new EulerFinder<String, Edge<String>>().hasTrail(graph));
+    }
+
+    private static <E extends Edge<String>> void assertEuler(GraphBase<String, E> graph, List<E> trail, String start) {
+        assertEquals(graph.getEdges(), new HashSet<>(trail));
+        assertEquals(graph.getEdges().size(), trail.size());
+        GraphUtil.vertexPath(trail, start);
+    }
+
+}
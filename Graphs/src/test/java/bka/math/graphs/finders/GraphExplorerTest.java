@@ -2,6 +2,7 @@ package bka.math.graphs.finders;
 
 import bka.math.graphs.*;
 import java.util.*;
+import java.util.stream.*;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -37,6 +38,50 @@ public class GraphExplorerTest {
             new HashSet<>(explorer.findAllCircuits(graph(U12, U13, U23, U24, U34), 1)));
     }
      
+    @Test
+    public void testCompact() {
+        GraphExplorer explorer = new GraphExplorer(new IndexedTrailFinder());
+        CompactGraph graph = new CompactGraph(graph(U12, U13, U23, U24, U34));
+        assertEquals(
+            Set.of(
+                List.of(U12),
+                List.of(U12, U23, U34, U24),
+                List.of(U12, U24, U34, U23),
+                List.of(U13, U23),
+                List.of(U13, U34, U24)),
+            new HashSet<>(explorer.findAllTrails(graph, 1, 2)));
+        assertEquals(
+            Set.of(
+                List.of(U12),
+                List.of(U13, U23),
+                List.of(U13, U34, U24)),
+            new HashSet<>(explorer.findAllPaths(graph, 1, 2)));
+        assertEquals(
+            Set.of(
+                List.of(U12, U23, U13),
+                List.of(U13, U23, U12),
+                List.of(U12, U24, U34, U13),
+                List.of(U13, U34, U24, U12)),
+            new HashSet<>(explorer.findAllCircuits(graph, 1)));
+    }
+
+    @Test
+    public void testStream() {
+        Graph<Integer> graph = graph(U12, U13, U23, U24, U34);
+        for (GraphExplorer explorer : List.of(GraphExplorer.undirected(), new GraphExplorer(new NonRecursiveTrailFinder()), new GraphExplorer(new IndexedTrailFinder()))) {
+            assertEquals(
+                new HashSet<>(explorer.findAllTrails(graph, 1, 2)),
+                explorer.streamAllTrails(graph, 1, 2).collect(Collectors.toSet()));
+            assertEquals(
+                new HashSet<>(explorer.findAllPaths(graph, 1)),
+                explorer.streamAllPaths(graph, 1).collect(Collectors.toSet()));
+            assertEquals(
+                new HashSet<>(explorer.findAllCircuits(graph, 1)),
+                explorer.streamAllCircuits(graph, 1).collect(Collectors.toSet()));
+            assertEquals(2, explorer.streamAllTrails(graph, 1).limit(2).count());
+        }
+    }
+
     @Test
     public void testUndirectedRestricted() {
         GraphExplorer explorer = GraphExplorer.undirected(trail -> trail.size() <= 2);
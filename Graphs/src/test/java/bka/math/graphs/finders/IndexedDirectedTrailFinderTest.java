@@ -0,0 +1,14 @@
+/*
+ * © Bart Kampers
+ */
+package bka.math.graphs.finders;
+
+import org.junit.jupiter.api.*;
+
+public class IndexedDirectedTrailFinderTest extends DirectedTrailFinderTestBase {
+
+    @Test
+    public void testFind() {
+        testFind(new IndexedDirectedTrailFinder());
+    }
+}
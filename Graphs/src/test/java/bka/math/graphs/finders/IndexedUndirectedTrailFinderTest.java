@@ -0,0 +1,15 @@
+/*
+ * © Bart Kampers
+ */
+package bka.math.graphs.finders;
+
+import org.junit.jupiter.api.*;
+
+public class IndexedUndirectedTrailFinderTest extends UndirectedTrailFinderTestBase {
+
+    @Test
+    public void testFind() {
+        testFind(new IndexedTrailFinder());
+    }
+
+}
@@ -0,0 +1,97 @@
+package bka.math.graphs.finders;
+
+import bka.math.graphs.*;
+import java.util.*;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MaximumFlowFinderTest {
+
+    @Test
+    public void testNetwork() {
+        Pipe sv1 = new Pipe("s", "v1", 16);
+        Pipe sv2 = new Pipe("s", "v2", 13);
+        Pipe v1v3 = new Pipe("v1", "v3", 12);
+        Pipe v2v1 = new Pipe("v2", "v1", 4);
+        Pipe v2v4 = new Pipe("v2", "v4", 14);
+        Pipe v3v2 = new Pipe("v3", "v2", 9);
+        Pipe v3t = new Pipe("v3", "t", 20);
+        Pipe v4v3 = new Pipe("v4", "v3", 7);
+        Pipe v4t = new Pipe("v4", "t", 4);
+        Pipe tt = new Pipe("t", "t", 5);
+        ImmutableGraph<String, Pipe> network = new ImmutableGraph<>(List.of("x"), List.of(sv1, sv2, v1v3, v2v1, v2v4, v3v2, v3t, v4v3, v4t, tt));
+        MaximumFlowFinder<String, Pipe> finder = new MaximumFlowFinder<>(Pipe::getCapacity);
+        MaximumFlow<String, Pipe> flow = finder.find(network, "s", "t");
+        assertEquals(23.0, flow.getValue());
+        assertEquals(Set.of("s", "v1", "v2", "v4"), flow.getSourceSide());
+        assertEquals(Set.of(v1v3, v4v3, v4t), flow.getCut());
+        assertEquals(12.0, flow.getFlow(v1v3));
+        assertEquals(0.0, flow.getFlow(tt));
+        assertEquals(0.0, flow.getFlow(new Pipe("s", "t", 1)));
+        assertEquals(23.0, flow.getFlow(v3t) + flow.getFlow(v4t));
+        assertFalse(flow.getFlows().containsKey(tt));
+        assertEquals(0.0, finder.find(network, "x", "t").getValue());
+        assertEquals(0.0, finder.find(network, "t", "s").getValue());
+        assertThrows(IllegalArgumentException.class, () -> finder.find(network, "s", "s"));
+        assertThrows(NoSuchElementException.class, () -> finder.find(network, "s", "z"));
+    }
+
+    @Test
+    public void testRandomNetwork() {
+        Random random = new Random(23);
+        List<Pipe> pipes = new ArrayList<>();
+        for (int i = 0; i < 5000; ++i) {
+            pipes.add(new Pipe(Integer.toString(random.nextInt(500)), Integer.toString(random.nextInt(500)), random.nextInt(100)));
+        }
+        ImmutableGraph<String, Pipe> network = new ImmutableGraph<>(pipes);
+        MaximumFlow<String, Pipe> flow = new MaximumFlowFinder<>(Pipe::getCapacity).find(network, pipes.get(0).getOrigin(), pipes.get(1).getTerminus());
+        Map<String, Double> balances = new HashMap<>();
+        for (Pipe pipe : pipes) {
+            double pipeFlow = flow.getFlow(pipe);
+            assertTrue(pipeFlow >= 0.0 && pipeFlow <= pipe.getCapacity());
+            balances.merge(pipe.getOrigin(), -pipeFlow, Double::sum);
+            balances.merge(pipe.getTerminus(), pipeFlow, Double::sum);
+        }
+        for (Map.Entry<String, Double> balance : balances.entrySet()) {
+            if (balance.getKey().equals(pipes.get(0).getOrigin())) {
+                assertEquals(-flow.getValue(), balance.getValue());
+            }
+            else if (balance.getKey().equals(pipes.get(1).getTerminus())) {
+                assertEquals(flow.getValue(), balance.getValue());
+            }
+            else {
+                assertEquals(0.0, balance.getValue());
+            }
+        }
+        assertEquals(flow.getValue(), flow.getCut().stream().mapToDouble(Pipe::getCapacity).sum());
+        assertTrue(flow.getValue() > 0.0);
+    }
+
+    @Test
+    public void testNegativeCapacity() {
+        ImmutableGraph<String, Pipe> network = new ImmutableGraph<>(List.of(new Pipe("s", "t", -1)));
+        assertThrows(IllegalArgumentException.class, () -> new MaximumFlowFinder<>(Pipe::getCapacity).find(network, "s", "t"));
+    }
+
+    @Test
+    public void testNonFiniteCapacity() {
+        ImmutableGraph<String, Pipe> network = new ImmutableGraph<>(List.of(new Pipe("s", "a", 1), new Pipe("a", "t", 1)));
+        assertThrows(IllegalArgumentException.class, () -> new MaximumFlowFinder<String, Pipe>(pipe -> Double.POSITIVE_INFINITY).find(network, "s", "t"));
+        assertThrows(IllegalArgumentException.class, () -> new MaximumFlowFinder<String, Pipe>(pipe -> Double.NaN).find(network, "s", "t"));
+    }
+
+    private class Pipe extends DirectedEdge<String> {
+
+        Pipe(String origin, String terminus, double capacity) {
+            super(origin, terminus);
+            this.capacity = capacity;
+        }
+
+        double getCapacity() {
+            return capacity;
+        }
+
+        private final double capacity;
+    }
+
+}
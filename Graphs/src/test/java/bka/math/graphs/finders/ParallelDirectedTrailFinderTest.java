@@ -0,0 +1,17 @@
+/*
+ * © Bart Kampers
+ */
+package bka.math.graphs.finders;
+
+import org.junit.jupiter.api.*;
+
+public class ParallelDirectedTrailFinderTest extends DirectedTrailFinderTestBase {
+
+    @Test
+    public void testFind() {
+        ParallelTrailFinder finder = new ParallelTrailFinder(new IndexedDirectedTrailFinder());
+        testFind(finder);
+        finder.setSplitDepth(1);
+        testFind(finder);
+    }
+}
@@ -0,0 +1,20 @@
+/*
+ * © Bart Kampers
+ */
+package bka.math.graphs.finders;
+
+import org.junit.jupiter.api.*;
+
+public class ParallelUndirectedTrailFinderTest extends UndirectedTrailFinderTestBase {
+
+    @Test
+    public void testFind() {
+        ParallelTrailFinder finder = new ParallelTrailFinder();
+        testFind(finder);
+        finder.setSplitDepth(1);
+        testFind(finder);
+        finder.setSplitDepth(4);
+        testFind(finder);
+    }
+
+}
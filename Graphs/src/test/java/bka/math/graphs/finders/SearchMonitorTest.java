@@ -0,0 +1,120 @@
+package bka.math.graphs.finders;
+
+import bka.math.graphs.*;
+import java.time.*;
+import java.util.*;
+import java.util.concurrent.*;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SearchMonitorTest {
+
+    @Test
+    public void testCounters() {
+        for (TrailFinder<Integer, Edge<Integer>> finder : finders()) {
+            SearchMonitor monitor = new SearchMonitor();
+            finder.setMonitor(monitor);
+            finder.setRestriction(trail -> trail.size() < 5);
+            Collection<List<Edge<Integer>>> trails = finder.find(complete(4), 0, null, true);
+            assertFalse(monitor.isStopped());
+            assertNull(monitor.getStopReason());
+            assertEquals(trails.size(), monitor.getResultCount());
+            assertEquals(trails.size() + 1, monitor.getStagesExpanded(), finder.getClass().getSimpleName());
+            assertEquals(4, monitor.getMaxDepth());
+            assertTrue(monitor.getRestrictionRejections() > 0);
+            assertEquals(monitor.getResultCount() + monitor.getRestrictionRejections(), monitor.getEdgesTried());
+            monitor.reset();
+            assertEquals(0, monitor.getStagesExpanded());
+            assertEquals(0, monitor.getEdgesTried());
+            assertEquals(0, monitor.getMaxDepth());
+        }
+    }
+
+    @Test
+    public void testStageLimit() {
+        for (TrailFinder<Integer, Edge<Integer>> finder : finders()) {
+            SearchMonitor monitor = new SearchMonitor();
+            monitor.setStageLimit(100);
+            finder.setMonitor(monitor);
+            Collection<List<Edge<Integer>>> trails = finder.find(complete(7), 0, null, true);
+            assertEquals(SearchMonitor.StopReason.STAGE_LIMIT, monitor.getStopReason());
+            assertTrue(trails.size() <= 100 + ForkJoinPool.commonPool().getParallelism());
+            assertTrue(monitor.getStagesExpanded() <= 101 + ForkJoinPool.commonPool().getParallelism());
+        }
+    }
+
+    @Test
+    public void testTimeLimit() {
+        for (TrailFinder<Integer, Edge<Integer>> finder : finders()) {
+            SearchMonitor monitor = new SearchMonitor();
+            monitor.setTimeLimit(Duration.ZERO);
+            finder.setMonitor(monitor);
+            finder.find(complete(7), 0, null, true);
+            assertEquals(SearchMonitor.StopReason.TIME_LIMIT, monitor.getStopReason());
+        }
+    }
+
+    @Test
+    public void testStream() {
+        IndexedTrailFinder<Integer, Edge<Integer>> finder = new IndexedTrailFinder<>();
+        SearchMonitor monitor = new SearchMonitor();
+        monitor.setStageLimit(10);
+        finder.setMonitor(monitor);
+        assertTrue(finder.stream(complete(7), 0, null, true).count() <= 10);
+        assertTrue(monitor.isStopped());
+    }
+
+    @Test
+    public void testInterrupt() {
+        for (TrailFinder<Integer, Edge<Integer>> finder : finders()) {
+            SearchMonitor monitor = new SearchMonitor();
+            finder.setMonitor(monitor);
+            Thread.currentThread().interrupt();
+            try {
+                assertTrue(finder.find(complete(7), 0, null, true).isEmpty());
+                assertEquals(SearchMonitor.StopReason.INTERRUPTED, monitor.getStopReason());
+                assertTrue(Thread.currentThread().isInterrupted());
+            }
+            finally {
+                Thread.interrupted();
+            }
+            finder.setMonitor(null);
+            Thread.currentThread().interrupt();
+            try {
+                assertTrue(finder.find(complete(3), 0, null, true).isEmpty());
+            }
+            finally {
+                Thread.interrupted();
+            }
+        }
+    }
+
+    @Test
+    public void testInterruptWithoutResolutions() throws InterruptedException {
+        ParallelTrailFinder<Integer, Edge<Integer>> finder = new ParallelTrailFinder<>();
+        finder.setFilter(trail -> false);
+        Graph<Integer> graph = complete(9);
+        Thread thread = new Thread(() -> finder.find(graph, 0, null, true));
+        thread.setDaemon(true);
+        thread.start();
+        Thread.sleep(100);
+        thread.interrupt();
+        thread.join(5000);
+        assertFalse(thread.isAlive());
+    }
+
+    private static List<TrailFinder<Integer, Edge<Integer>>> finders() {
+        return List.of(new NonRecursiveTrailFinder<>(), new RecursiveTrailFinder<>(), new IndexedTrailFinder<>(), new ParallelTrailFinder<>());
+    }
+
+    private static Graph<Integer> complete(int vertexCount) {
+        List<Edge<Integer>> edges = new ArrayList<>();
+        for (int i = 0; i < vertexCount; ++i) {
+            for (int j = i + 1; j < vertexCount; ++j) {
+                edges.add(new UndirectedEdge<>(i, j));
+            }
+        }
+        return new DefaultMutableGraph<>(edges);
+    }
+
+}
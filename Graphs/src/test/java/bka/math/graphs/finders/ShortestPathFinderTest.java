@@ -0,0 +1,91 @@
+package bka.math.graphs.finders;
+
+import bka.math.graphs.*;
+import bka.math.graphs.utils.*;
+import java.util.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ShortestPathFinderTest {
+
+    @BeforeEach
+    public void setUp() {
+        map = new ImmutableGraph<>(List.of(
+            new Road("A", "B", 5.0),
+            new Road("B", "C", 2.5),
+            new Road("A", "C", 3.0),
+            new Road("B", "D", 3.0),
+            new Road("C", "D", 3.0),
+            new Road("E", "E", 1.0)));
+    }
+
+    @Test
+    public void testDijkstra() {
+        ShortestPathFinder<String, Road> finder = new ShortestPathFinder<>(Road::getLength);
+        assertEquals(List.of("A", "C", "D"), GraphUtil.vertexPath(finder.find(map, "A", "D"), "A"));
+        assertEquals(List.of("B", "A"), GraphUtil.vertexPath(finder.find(map, "B", "A"), "B"));
+        assertEquals(List.of("D", "C", "A"), GraphUtil.vertexPath(finder.find(map, "D", "A"), "D"));
+        assertTrue(finder.find(map, "A", "A").isEmpty());
+        assertTrue(finder.find(map, "A", "E").isEmpty());
+        assertThrows(NoSuchElementException.class, () -> finder.find(map, "A", "Z"));
+    }
+
+    @Test
+    public void testAStar() {
+        Map<String, Double> estimates = Map.of("A", 5.0, "B", 3.0, "C", 3.0, "D", 0.0, "E", 0.0);
+        ShortestPathFinder<String, Road> finder = new ShortestPathFinder<>(Road::getLength);
+        finder.setHeuristic((vertex, end) -> estimates.get(vertex));
+        assertEquals(List.of("A", "C", "D"), GraphUtil.vertexPath(finder.find(map, "A", "D"), "A"));
+    }
+
+    @Test
+    public void testFindAll() {
+        ShortestPathFinder<String, Road> finder = new ShortestPathFinder<>(Road::getLength);
+        ShortestPathTree<String, Road> tree = finder.findAll(map, "A");
+        assertEquals("A", tree.getSource());
+        assertEquals(0.0, tree.getDistance("A"));
+        assertEquals(5.0, tree.getDistance("B"));
+        assertEquals(3.0, tree.getDistance("C"));
+        assertEquals(6.0, tree.getDistance("D"));
+        assertEquals(Double.POSITIVE_INFINITY, tree.getDistance("E"));
+        assertTrue(tree.isReachable("D"));
+        assertFalse(tree.isReachable("E"));
+        assertEquals(List.of("A", "B"), GraphUtil.vertexPath(tree.getPath("B"), "A"));
+        assertTrue(tree.getPath("E").isEmpty());
+    }
+
+    @Test
+    public void testDirected() {
+        Digraph<String> graph = new DefaultMutableDigraph<>(List.of(
+            new DirectedEdge<>("A", "B"),
+            new DirectedEdge<>("B", "C"),
+            new DirectedEdge<>("C", "A")));
+        ShortestPathFinder<String, DirectedEdge<String>> finder = new ShortestPathFinder<>(edge -> 1.0);
+        assertEquals(List.of("A", "B", "C"), GraphUtil.vertexPath(finder.find(graph, "A", "C"), "A"));
+        assertEquals(List.of("C", "A"), GraphUtil.vertexPath(finder.find(graph, "C", "A"), "C"));
+    }
+
+    @Test
+    public void testNegativeWeight() {
+        ShortestPathFinder<String, Road> finder = new ShortestPathFinder<>(road -> -road.getLength());
+        assertThrows(IllegalArgumentException.class, () -> finder.find(map, "A", "D"));
+    }
+
+    private class Road extends UndirectedEdge<String> {
+
+        public Road(String name1, String name2, double length) {
+            super(name1, name2);
+            this.length = length;
+        }
+
+        public double getLength() {
+            return length;
+        }
+
+        private final double length;
+    }
+
+    private ImmutableGraph<String, Road> map;
+
+}
@@ -42,6 +42,40 @@ public class ShortestRoadTest {
         );
     }
 
+     @Test
+     public void testIncremental() {
+        List<TrailFinder<String, Road>> finders = List.of(new RecursiveTrailFinder<>(), new NonRecursiveTrailFinder<>(), new IndexedTrailFinder<>(), new ParallelTrailFinder<>());
+        for (TrailFinder<String, Road> finder : finders) {
+            finder.setIncrementalRestriction(shorterThan(8.5));
+            assertEquals(
+                Set.of(
+                    List.of("A", "C", "D"),
+                    List.of("A", "B", "D")),
+                new GraphExplorer<>(finder).findAllPaths(map, "A", "D").stream()
+                    .map(path -> GraphUtil.vertexPath(path, "A"))
+                    .collect(Collectors.toSet()));
+        }
+    }
+
+    private static TrailAccumulator<Double, Road> shorterThan(double max) {
+        return new TrailAccumulator<>() {
+            @Override
+            public Double initial() {
+                return 0.0;
+            }
+
+            @Override
+            public Double extend(Double length, Road road) {
+                return length + road.getLength();
+            }
+
+            @Override
+            public boolean accept(Double length) {
+                return length < max;
+            }
+        };
+    }
+
     private static Predicate<List<Road>> ofMaxLength(double max) {
         return path -> path.stream()
             .map(road -> road.getLength())
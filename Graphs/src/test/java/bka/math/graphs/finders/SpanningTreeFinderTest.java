@@ -0,0 +1,73 @@
+package bka.math.graphs.finders;
+
+import bka.math.graphs.*;
+import java.util.*;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SpanningTreeFinderTest {
+
+    @Test
+    public void testForest() {
+        Road ab = new Road("A", "B", 5.0);
+        Road bc = new Road("B", "C", 2.5);
+        Road ac = new Road("A", "C", 3.0);
+        Road bd = new Road("B", "D", 3.0);
+        Road cd = new Road("C", "D", 4.0);
+        Road ee = new Road("E", "E", 1.0);
+        Road fg = new Road("F", "G", 7.0);
+        ImmutableGraph<String, Road> map = new ImmutableGraph<>(List.of("H"), List.of(ab, bc, ac, bd, cd, ee, fg));
+        SpanningTreeFinder<String, Road> finder = new SpanningTreeFinder<>(Road::getLength);
+        for (SpanningTreeFinder.Algorithm algorithm : SpanningTreeFinder.Algorithm.values()) {
+            finder.setAlgorithm(algorithm);
+            ImmutableGraph<String, Road> forest = finder.find(map);
+            assertEquals(Set.of(bc, ac, bd, fg), forest.getEdges());
+            assertEquals(map.getVertices(), forest.getVertices());
+        }
+    }
+
+    @Test
+    public void testRandomGraph() {
+        Random random = new Random(18);
+        List<Road> roads = new ArrayList<>();
+        for (int i = 0; i < 2000; ++i) {
+            roads.add(new Road(Integer.toString(random.nextInt(300)), Integer.toString(random.nextInt(300)), random.nextDouble()));
+        }
+        ImmutableGraph<String, Road> map = new ImmutableGraph<>(roads);
+        SpanningTreeFinder<String, Road> finder = new SpanningTreeFinder<>(Road::getLength);
+        finder.setAlgorithm(SpanningTreeFinder.Algorithm.KRUSKAL);
+        Set<Road> kruskal = finder.find(map).getEdges();
+        finder.setAlgorithm(SpanningTreeFinder.Algorithm.PRIM);
+        Set<Road> prim = finder.find(map).getEdges();
+        assertEquals(kruskal, prim);
+        assertEquals(map.getVertices().size() - 1, kruskal.size());
+    }
+
+    @Test
+    public void testEmptyGraph() {
+        SpanningTreeFinder<String, Road> finder = new SpanningTreeFinder<>(Road::getLength);
+        assertTrue(finder.find(new ImmutableGraph<>(List.of())).getVertices().isEmpty());
+    }
+
+    @Test
+    public void testIllegalWeight() {
+        ImmutableGraph<String, Road> map = new ImmutableGraph<>(List.of(new Road("A", "B", Double.NaN)));
+        SpanningTreeFinder<String, Road> finder = new SpanningTreeFinder<>(Road::getLength);
+        assertThrows(IllegalArgumentException.class, () -> finder.find(map));
+    }
+
+    private class Road extends UndirectedEdge<String> {
+
+        public Road(String name1, String name2, double length) {
+            super(name1, name2);
+            this.length = length;
+        }
+
+        public double getLength() {
+            return length;
+        }
+
+        private final double length;
+    }
+
+}
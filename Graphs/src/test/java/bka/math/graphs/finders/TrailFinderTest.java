@@ -43,6 +43,20 @@ public class TrailFinderTest {
         assertEquals(length, explorer.findAllTrails(graph, "a", null).size());
     }
 
+    @Test
+    public void testParallelLimiter() {
+        final int length = 4;
+        DefaultMutableGraph<String> graph = new DefaultMutableGraph<>(List.of(
+            new UndirectedEdge<>("a", "b"),
+            new UndirectedEdge<>("b", "c"),
+            new UndirectedEdge<>("a", "c")));
+        ParallelTrailFinder<String, Edge<String>> finder = new ParallelTrailFinder<>();
+        finder.setSplitDepth(1);
+        finder.setLimiter(trails -> trails.size() >= length);
+        GraphExplorer<String, Edge<String>> explorer = new GraphExplorer<>(finder);
+        assertEquals(length, explorer.findAllTrails(graph, "a", null).size());
+    }
+
     public void testFilters(TrailFinder<String, Edge<String>> finder) {
         DefaultMutableGraph<String> graph = new DefaultMutableGraph<>(List.of(
             new UndirectedEdge<>("a", "b"),
@@ -557,7 +571,9 @@ public class TrailFinderTest {
     private static TrailFinder[] getTrailFinders() {
         return new TrailFinder[]{
             new NonRecursiveTrailFinder(),
-            new RecursiveTrailFinder() };
+            new RecursiveTrailFinder(),
+            new IndexedTrailFinder(),
+            new ParallelTrailFinder() };
     }
 
     private static final String[] AA = { "a", "a" };
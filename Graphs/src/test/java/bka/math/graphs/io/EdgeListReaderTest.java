@@ -0,0 +1,126 @@
+/*
+** © Bart Kampers
+*/
+
+package bka.math.graphs.io;
+
+import bka.math.graphs.*;
+import java.io.*;
+import java.nio.charset.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.function.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.*;
+
+public class EdgeListReaderTest {
+
+    @Test
+    public void testRoundTrip() throws IOException {
+        DefaultMutableDigraph<String> source = new DefaultMutableDigraph<>(List.of(
+            new DirectedEdge<>("a", "b"),
+            new DirectedEdge<>("b", "c"),
+            new DirectedEdge<>("c", "c"),
+            new DirectedEdge<>("c", "Zürich")));
+        Path path = tempDir.resolve("graph.tsv");
+        new EdgeListWriter<String, DirectedEdge<String>>(Function.identity()).write(source, path);
+        DefaultMutableDigraph<String> graph = new DefaultMutableDigraph<>();
+        new EdgeListReader<>(Function.identity()).read(path, graph, (first, second, weight) -> new DirectedEdge<>(first, second));
+        assertEquals(source.getVertices(), graph.getVertices());
+        assertEquals(describe(source.getEdges()), describe(graph.getEdges()));
+    }
+
+    @Test
+    public void testWeightedGraph() throws IOException {
+        Path path = tempDir.resolve("weighted.tsv");
+        Files.writeString(path, "a\tb\t2.5\nb\tc\n", StandardCharsets.UTF_8);
+        DefaultMutableGraph<String> graph = new DefaultMutableGraph<>();
+        Map<Edge<String>, Double> weights = new HashMap<>();
+        new EdgeListReader<>(Function.identity()).read(path, graph, (first, second, weight) -> {
+            Edge<String> edge = new UndirectedEdge<>(first, second);
+            weights.put(edge, weight);
+            return edge;
+        });
+        assertEquals(Set.of("a", "b", "c"), graph.getVertices());
+        assertEquals(weights.keySet(), graph.getEdges());
+        assertEquals(List.of(1.0, 2.5), weights.values().stream().sorted().toList());
+    }
+
+    @Test
+    public void testWeights() throws IOException {
+        Graph<Integer> source = new DefaultMutableGraph<>(List.of(
+            new UndirectedEdge<>(1, 2),
+            new UndirectedEdge<>(2, 3),
+            new UndirectedEdge<>(3, 10)));
+        Path path = tempDir.resolve("weighted.csv");
+        EdgeListWriter<Integer, Edge<Integer>> writer = new EdgeListWriter<>(String::valueOf);
+        writer.setDelimiter(',');
+        writer.setWeight(edge -> edge.getVertices().stream().mapToInt(Integer::intValue).sum() / 4.0);
+        writer.write(source, path);
+        EdgeListReader<Integer> reader = new EdgeListReader<>(Integer::valueOf);
+        reader.setDelimiter(',');
+        Map<Set<Integer>, Double> weights = new HashMap<>();
+        reader.read(path, (first, second, weight) -> weights.put(Set.of(first, second), weight));
+        assertEquals(Map.of(Set.of(1, 2), 0.75, Set.of(2, 3), 1.25, Set.of(3, 10), 3.25), weights);
+    }
+
+    @Test
+    public void testIndexedEdges() throws IOException {
+        Path path = tempDir.resolve("indexed.txt");
+        Files.writeString(path, "# comment\r\nx\ty\t2.5\r\n\r\ny\tz\nz\tx\t-1", StandardCharsets.UTF_8);
+        VertexIndex<String> index = new VertexIndex<>();
+        List<int[]> edges = new ArrayList<>();
+        List<Double> weights = new ArrayList<>();
+        new EdgeListReader<>(Function.identity()).read(path, (first, second, weight) -> {
+            edges.add(new int[]{ index.intern(first), index.intern(second) });
+            weights.add(weight);
+        });
+        assertEquals(List.of("x", "y", "z"), index.getVertices());
+        assertEquals(List.of("0-1", "1-2", "2-0"), edges.stream().map(edge -> edge[0] + "-" + edge[1]).toList());
+        assertEquals(List.of(2.5, 1.0, -1.0), weights);
+    }
+
+    @Test
+    public void testLongLines() throws IOException {
+        Path path = tempDir.resolve("long.tsv");
+        String longKey = "v".repeat(200_000);
+        List<Edge<String>> source = new ArrayList<>();
+        for (int i = 0; i < 20_000; ++i) {
+            source.add(new UndirectedEdge<>("v" + i, (i % 1000 == 0) ? longKey : "v" + (i + 1)));
+        }
+        new EdgeListWriter<String, Edge<String>>(Function.identity()).write(source, path);
+        List<String> lines = new ArrayList<>();
+        new EdgeListReader<>(Function.identity()).read(path, (first, second, weight) -> lines.add(first + " " + second));
+        assertEquals(source.stream().map(edge -> String.join(" ", edge.getVertices())).toList(), lines);
+    }
+
+    @Test
+    public void testInvalid() throws IOException {
+        Path path = tempDir.resolve("invalid.tsv");
+        EdgeListReader<String> reader = new EdgeListReader<>(Function.identity());
+        for (String content : List.of("a\tb\nc\n", "a\t\n", "\tb\n", "a\t\tb\n", "a\tb\t\n", "a\tb\tone\n", "a\tb\t1\t2\n")) {
+            Files.writeString(path, content, StandardCharsets.UTF_8);
+            IOException exception = assertThrows(IOException.class, () -> reader.read(path, (first, second, weight) -> {}), content);
+            assertTrue(exception.getMessage().startsWith("Invalid edge at line "), exception.getMessage());
+        }
+        EdgeListWriter<String, Edge<String>> writer = new EdgeListWriter<>(Function.identity());
+        for (String key : List.of("", "#a", "a\tb", "a\nb")) {
+            assertThrows(IllegalArgumentException.class, () -> writer.write(List.of(new UndirectedEdge<>("x", key)), path), key);
+        }
+        assertThrows(IllegalArgumentException.class, () -> writer.setDelimiter('\n'));
+        assertThrows(IllegalArgumentException.class, () -> reader.setDelimiter('§'));
+    }
+
+    private static Set<List<String>> describe(Collection<? extends Edge<String>> edges) {
+        Set<List<String>> descriptions = new HashSet<>();
+        edges.forEach(edge -> descriptions.add(List.copyOf(edge.getVertices())));
+        return descriptions;
+    }
+
+    @TempDir
+    Path tempDir;
+
+}
@@ -0,0 +1,95 @@
+/*
+** © Bart Kampers
+*/
+
+package bka.math.graphs.io;
+
+import bka.math.graphs.*;
+import bka.math.graphs.finders.*;
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.function.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.*;
+
+public class MappedGraphTest {
+
+    @Test
+    public void testRoundTrip() throws IOException {
+        DefaultMutableGraph<String> source = new DefaultMutableGraph<>(List.of("Zürich", "isolated"), List.of(
+            new UndirectedEdge<>("a", "b"),
+            new UndirectedEdge<>("a", "b"),
+            new DirectedEdge<>("b", "c"),
+            new DirectedEdge<>("c", "c"),
+            new UndirectedEdge<>("c", "Zürich")));
+        Path path = tempDir.resolve("graph.bin");
+        new GraphFileWriter<String, Edge<String>>(Function.identity()).write(source, path);
+        MappedGraph<String> graph = new MappedGraph<>(path, Function.identity(), Function.identity());
+        assertFalse(graph.isWeighted());
+        assertEquals(source.getVertices(), graph.getVertices());
+        assertEquals(5, graph.getVertexCount());
+        assertEquals(5, graph.getEdgeCount());
+        assertEquals(5, graph.getEdges().size());
+        assertEquals(-1, graph.getVertexIndex("x"));
+        for (String vertex : source.getVertices()) {
+            assertEquals(vertex, graph.getVertex(graph.getVertexIndex(vertex)));
+            assertEquals(describe(source.getIncidentEdges(vertex)), describe(graph.getIncidentEdges(vertex)), vertex);
+            assertEquals(describe(source.getOutgoingEdges(vertex)), describe(graph.getOutgoingEdges(vertex)), vertex);
+            assertEquals(describe(source.getIncomingEdges(vertex)), describe(graph.getIncomingEdges(vertex)), vertex);
+        }
+        assertTrue(graph.getIncidentEdges("isolated").isEmpty());
+        assertTrue(graph.getIncidentEdges("x").isEmpty());
+        Edge<String> loop = graph.getOutgoingEdges("c").stream().filter(edge -> edge.getVertices().equals(List.of("c", "c"))).findAny().get();
+        assertTrue(loop instanceof DirectedEdge);
+        assertEquals(loop, graph.getEdge(graph.getEdgeIndex(loop)));
+        assertTrue(graph.getEdges().contains(loop));
+        assertFalse(graph.getEdges().contains(new DirectedEdge<>("c", "c")));
+        List<Edge<String>> parallel = new ArrayList<>(graph.getIncidentEdges("a"));
+        assertNotEquals(parallel.get(0), parallel.get(1));
+    }
+
+    @Test
+    public void testWeights() throws IOException {
+        Graph<Integer> source = new DefaultMutableGraph<>(List.of(
+            new UndirectedEdge<>(1, 2),
+            new UndirectedEdge<>(2, 3),
+            new UndirectedEdge<>(1, 3),
+            new UndirectedEdge<>(3, 10)));
+        Path path = tempDir.resolve("weighted.bin");
+        GraphFileWriter<Integer, Edge<Integer>> writer = new GraphFileWriter<>(String::valueOf);
+        writer.setWeight(edge -> edge.getVertices().stream().mapToInt(Integer::intValue).sum());
+        writer.write(source, path);
+        MappedGraph<Integer> graph = new MappedGraph<>(path, String::valueOf, Integer::valueOf);
+        assertTrue(graph.isWeighted());
+        assertSame(graph, IndexedGraph.of(graph));
+        ShortestPathFinder<Integer, Edge<Integer>> finder = new ShortestPathFinder<>(graph::getWeight);
+        List<Edge<Integer>> path13 = finder.find(graph, 1, 10);
+        assertEquals(List.of(Set.of(1, 3), Set.of(3, 10)), path13.stream().map(edge -> Set.copyOf(edge.getVertices())).toList());
+        assertEquals(17.0, path13.stream().mapToDouble(graph::getWeight).sum());
+    }
+
+    @Test
+    public void testInvalid() throws IOException {
+        Path path = tempDir.resolve("invalid.bin");
+        Files.write(path, new byte[64]);
+        assertThrows(IOException.class, () -> new MappedGraph<>(path, Function.identity(), Function.identity()));
+        Graph<String> duplicateKeys = new DefaultMutableGraph<>(List.of(new UndirectedEdge<>("A", "a")));
+        GraphFileWriter<String, Edge<String>> writer = new GraphFileWriter<>(String::toLowerCase);
+        assertThrows(IllegalArgumentException.class, () -> writer.write(duplicateKeys, path));
+    }
+
+    private static List<String> describe(Collection<? extends Edge<String>> edges) {
+        return edges.stream().map(Object::toString).sorted().toList();
+    }
+
+    @TempDir
+    Path tempDir;
+
+}
@@ -0,0 +1,83 @@
+/*
+** © Bart Kampers
+*/
+
+package bka.math.graphs.metrics;
+
+import bka.math.graphs.*;
+import java.util.*;
+import java.util.concurrent.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.*;
+
+public class CentralityTest {
+
+    @Test
+    public void testPath() {
+        Graph<String> path = new DefaultMutableGraph<>(List.of(
+            new UndirectedEdge<>("a", "b"), new UndirectedEdge<>("b", "c"), new UndirectedEdge<>("c", "d")));
+        Centrality<String, Edge<String>> centrality = new Centrality<>();
+        assertEquals(Map.of("a", 0.0, "b", 2.0, "c", 2.0, "d", 0.0), centrality.getBetweenness(path));
+        Map<String, Double> closeness = centrality.getCloseness(path);
+        assertEquals(0.5, closeness.get("a"), DELTA);
+        assertEquals(0.75, closeness.get("b"), DELTA);
+        Map<String, Double> degree = centrality.getDegree(path);
+        assertEquals(1.0 / 3.0, degree.get("a"), DELTA);
+        assertEquals(2.0 / 3.0, degree.get("c"), DELTA);
+    }
+
+    @Test
+    public void testDiamond() {
+        Graph<String> diamond = new DefaultMutableGraph<>(List.of(
+            new UndirectedEdge<>("a", "b"), new UndirectedEdge<>("a", "c"), new UndirectedEdge<>("b", "d"), new UndirectedEdge<>("c", "d")));
+        assertEquals(Map.of("a", 0.5, "b", 0.5, "c", 0.5, "d", 0.5), new Centrality<String, Edge<String>>().getBetweenness(diamond));
+    }
+
+    @Test
+    public void testDirected() {
+        Graph<String> graph = new DefaultMutableGraph<>(List.of(
+            new DirectedEdge<>("a", "b"), new DirectedEdge<>("b", "c"), new DirectedEdge<>("c", "c")));
+        Centrality<String, Edge<String>> centrality = new Centrality<>();
+        assertEquals(Map.of("a", 0.0, "b", 1.0, "c", 0.0), centrality.getBetweenness(graph));
+        Map<String, Double> closeness = centrality.getCloseness(graph);
+        assertEquals(2.0 / 3.0, closeness.get("a"), DELTA);
+        assertEquals(0.5, closeness.get("b"), DELTA);
+        assertEquals(0.0, closeness.get("c"), DELTA);
+    }
+
+    @Test
+    public void testWeighted() {
+        Map<Edge<String>, Double> weights = new HashMap<>();
+        weights.put(new UndirectedEdge<>("a", "b"), 1.0);
+        weights.put(new UndirectedEdge<>("b", "c"), 1.5);
+        weights.put(new UndirectedEdge<>("a", "c"), 3.0);
+        Graph<String> triangle = new DefaultMutableGraph<>(weights.keySet());
+        Centrality<String, Edge<String>> centrality = new Centrality<>(weights::get);
+        assertEquals(Map.of("a", 0.0, "b", 1.0, "c", 0.0), centrality.getBetweenness(triangle));
+        assertEquals(2.0 / 3.5, centrality.getCloseness(triangle).get("a"), DELTA);
+        weights.put(new UndirectedEdge<>("c", "d"), 0.0);
+        Graph<String> zero = new DefaultMutableGraph<>(weights.keySet());
+        assertThrows(IllegalArgumentException.class, () -> centrality.getBetweenness(zero));
+    }
+
+    @Test
+    public void testParallel() {
+        Random random = new Random(19);
+        Map<Edge<Integer>, Double> weights = new HashMap<>();
+        for (int i = 0; i < 1500; ++i) {
+            int first = random.nextInt(300);
+            int second = random.nextInt(300);
+            weights.put((random.nextBoolean()) ? new DirectedEdge<>(first, second) : new UndirectedEdge<>(first, second), 1.0 + random.nextInt(5));
+        }
+        Graph<Integer> graph = new DefaultMutableGraph<>(weights.keySet());
+        Map<Integer, Double> sequential = new Centrality<Integer, Edge<Integer>>(weights::get, new ForkJoinPool(1)).getBetweenness(graph);
+        Map<Integer, Double> parallel = new Centrality<Integer, Edge<Integer>>(weights::get, new ForkJoinPool(4)).getBetweenness(graph);
+        for (Integer vertex : graph.getVertices()) {
+            assertEquals(sequential.get(vertex), parallel.get(vertex), DELTA);
+        }
+    }
+
+    private static final double DELTA = 1e-9;
+
+}
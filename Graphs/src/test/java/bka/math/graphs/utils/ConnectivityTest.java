@@ -0,0 +1,56 @@
+/*
+** © Bart Kampers
+*/
+
+package bka.math.graphs.utils;
+
+import bka.math.graphs.*;
+import java.util.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.*;
+
+public class ConnectivityTest {
+
+    @Test
+    public void testComponents() {
+        Graph<String> graph = new DefaultMutableGraph<>(
+            List.of("x"),
+            List.of(new UndirectedEdge<>("a", "b"), new DirectedEdge<>("c", "b"), new UndirectedEdge<>("d", "e")));
+        Connectivity<String> connectivity = new Connectivity<>(graph);
+        assertEquals(3, connectivity.getComponentCount());
+        assertTrue(connectivity.isConnected("a", "c"));
+        assertTrue(connectivity.isConnected("c", "a"));
+        assertFalse(connectivity.isConnected("a", "d"));
+        assertTrue(connectivity.isConnected("x", "x"));
+        assertFalse(connectivity.isConnected("x", "y"));
+        assertEquals(Set.of("a", "b", "c"), connectivity.getComponent("b"));
+        assertEquals(Set.of(), connectivity.getComponent("y"));
+        assertEquals(Set.of(Set.of("a", "b", "c"), Set.of("d", "e"), Set.of("x")), new HashSet<>(connectivity.getComponents()));
+    }
+
+    @Test
+    public void testListener() {
+        DefaultMutableGraph<String> graph = new DefaultMutableGraph<>(List.of(new UndirectedEdge<>("a", "b")));
+        Connectivity<String> connectivity = new Connectivity<>(graph);
+        graph.addListener(connectivity);
+        graph.addVertex("c");
+        assertEquals(2, connectivity.getComponentCount());
+        Edge<String> bc = new UndirectedEdge<>("b", "c");
+        graph.addEdge(bc);
+        graph.addEdge(new UndirectedEdge<>("d", "e"));
+        assertEquals(2, connectivity.getComponentCount());
+        assertTrue(connectivity.isConnected("a", "c"));
+        graph.removeEdge(bc);
+        assertEquals(3, connectivity.getComponentCount());
+        assertFalse(connectivity.isConnected("a", "c"));
+        graph.addEdge(new UndirectedEdge<>("c", "d"));
+        graph.removeVertex("e");
+        assertEquals(2, connectivity.getComponentCount());
+        assertTrue(connectivity.isConnected("c", "d"));
+        graph.clear();
+        assertEquals(0, connectivity.getComponentCount());
+    }
+
+}
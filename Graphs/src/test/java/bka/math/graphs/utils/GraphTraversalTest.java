@@ -0,0 +1,152 @@
+/*
+** © Bart Kampers
+*/
+
+package bka.math.graphs.utils;
+
+import bka.math.graphs.*;
+import bka.math.graphs.utils.GraphTraversal.Visit;
+import java.util.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.*;
+
+public class GraphTraversalTest {
+
+    @Test
+    public void testBreadthFirst() {
+        Graph<String> graph = new DefaultMutableGraph<>(List.of(
+            new UndirectedEdge<>("a", "b"), new UndirectedEdge<>("a", "c"), new UndirectedEdge<>("b", "d"),
+            new UndirectedEdge<>("c", "d"), new UndirectedEdge<>("d", "e"), new UndirectedEdge<>("x", "y")));
+        List<Visit<String, Edge<String>>> visits = GraphTraversal.breadthFirst(graph, "a").toList();
+        assertEquals(Set.of("a", "b", "c", "d", "e"), vertices(visits));
+        assertEquals(5, visits.size());
+        Visit<String, Edge<String>> start = visits.get(0);
+        assertEquals("a", start.vertex());
+        assertEquals(0, start.depth());
+        assertNull(start.parent());
+        assertNull(start.edge());
+        Map<String, Integer> depths = new HashMap<>();
+        visits.forEach(visit -> depths.put(visit.vertex(), visit.depth()));
+        assertEquals(Map.of("a", 0, "b", 1, "c", 1, "d", 2, "e", 3), depths);
+        for (int i = 1; i < visits.size(); ++i) {
+            Visit<String, Edge<String>> visit = visits.get(i);
+            assertEquals(depths.get(visit.parent()) + 1, visit.depth());
+            assertEquals(Set.of(visit.parent(), visit.vertex()), new HashSet<>(visit.edge().getVertices()));
+            assertFalse(visits.get(i - 1).depth() > visit.depth());
+        }
+    }
+
+    @Test
+    public void testDepthFirst() {
+        Graph<String> graph = new DefaultMutableGraph<>(List.of(
+            new UndirectedEdge<>("a", "b"), new UndirectedEdge<>("b", "c"), new UndirectedEdge<>("c", "a"), new UndirectedEdge<>("a", "d")));
+        List<Visit<String, Edge<String>>> visits = GraphTraversal.depthFirst(graph, "a").toList();
+        assertEquals(4, visits.size());
+        assertEquals(Set.of("a", "b", "c", "d"), vertices(visits));
+        Set<String> visited = new HashSet<>();
+        for (Visit<String, Edge<String>> visit : visits) {
+            if (visit.parent() != null) {
+                assertEquals(true, visited.contains(visit.parent()));
+            }
+            visited.add(visit.vertex());
+        }
+        Map<String, Integer> depths = new HashMap<>();
+        visits.forEach(visit -> depths.put(visit.vertex(), visit.depth()));
+        assertEquals(1, depths.get("d"));
+        assertEquals(Set.of(1, 2), Set.of(depths.get("b"), depths.get("c")));
+    }
+
+    @Test
+    public void testDirection() {
+        Graph<String> graph = new DefaultMutableGraph<>(List.of(
+            new DirectedEdge<>("a", "b"), new DirectedEdge<>("c", "b"), new UndirectedEdge<>("b", "d"), new DirectedEdge<>("d", "e")));
+        assertEquals(Set.of("a", "b", "d", "e"), vertices(GraphTraversal.breadthFirst(graph, "a").toList()));
+        assertEquals(Set.of("a", "b", "d", "e"), vertices(GraphTraversal.depthFirst(graph, "a").toList()));
+        assertEquals(Set.of("e"), vertices(GraphTraversal.breadthFirst(graph, "e").toList()));
+        assertEquals(Set.of("d", "b", "e"), vertices(GraphTraversal.depthFirst(graph, "d").toList()));
+        CompactGraph<String, Edge<String>> compactGraph = new CompactGraph<>(graph);
+        assertEquals(Set.of("a", "b", "d", "e"), vertices(GraphTraversal.breadthFirst(compactGraph, "a").toList()));
+        assertEquals(Set.of("d", "b", "e"), vertices(GraphTraversal.depthFirst(compactGraph, "d").toList()));
+    }
+
+    @Test
+    public void testEarlyTermination() {
+        DefaultMutableGraph<Integer> graph = new DefaultMutableGraph<>();
+        for (int i = 0; i < 1000; ++i) {
+            graph.addEdge(new DirectedEdge<>(i, i + 1));
+        }
+        assertEquals(10, GraphTraversal.depthFirst(graph, 0).filter(visit -> visit.vertex() == 10).findFirst().get().depth());
+        Iterator<Visit<Integer, Edge<Integer>>> iterator = GraphTraversal.breadthFirstIterator(graph, 995);
+        assertEquals(List.of(995, 996, 997, 998, 999, 1000), List.of(
+            iterator.next().vertex(), iterator.next().vertex(), iterator.next().vertex(),
+            iterator.next().vertex(), iterator.next().vertex(), iterator.next().vertex()));
+        assertFalse(iterator.hasNext());
+        assertThrows(NoSuchElementException.class, iterator::next);
+    }
+
+    @Test
+    public void testUnboundedGraph() {
+        GraphBase<Integer, DirectedEdge<Integer>> graph = new GraphBase<>() {
+
+            @Override
+            public Set<Integer> getVertices() {
+                return new AbstractSet<>() {
+
+                    @Override
+                    public boolean contains(Object vertex) {
+                        return vertex instanceof Integer integer && integer >= 0;
+                    }
+
+                    @Override
+                    public Iterator<Integer> iterator() {
+                        throw new UnsupportedOperationException();
+                    }
+
+                    @Override
+                    public int size() {
+                        throw new UnsupportedOperationException();
+                    }
+                };
+            }
+
+            @Override
+            public Set<DirectedEdge<Integer>> getEdges() {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public Set<DirectedEdge<Integer>> getIncidentEdges(Integer vertex) {
+                Set<DirectedEdge<Integer>> edges = new HashSet<>(List.of(new DirectedEdge<>(vertex, vertex + 1), new DirectedEdge<>(vertex, vertex + 2)));
+                if (vertex > 0) {
+                    edges.add(new DirectedEdge<>(vertex - 1, vertex));
+                }
+                return edges;
+            }
+        };
+        assertEquals(List.of(0, 1, 2, 3, 4, 5, 6), GraphTraversal.breadthFirst(graph, 0).limit(7).map(Visit::vertex).sorted().toList());
+        List<Visit<Integer, DirectedEdge<Integer>>> visits = GraphTraversal.depthFirst(graph, 0).limit(100).toList();
+        assertEquals(99, visits.get(99).depth());
+        for (int i = 1; i < visits.size(); ++i) {
+            assertEquals(visits.get(i - 1).vertex(), visits.get(i).parent());
+            assertEquals(List.of(visits.get(i).parent(), visits.get(i).vertex()), visits.get(i).edge().getVertices());
+        }
+        assertThrows(NoSuchElementException.class, () -> GraphTraversal.breadthFirst(graph, -1));
+    }
+
+    @Test
+    public void testMissingStart() {
+        Graph<String> graph = new DefaultMutableGraph<>(List.of(new UndirectedEdge<>("a", "b")));
+        assertThrows(NoSuchElementException.class, () -> GraphTraversal.breadthFirst(graph, "x"));
+        assertThrows(NoSuchElementException.class, () -> GraphTraversal.depthFirst(graph, "x"));
+    }
+
+    private static <V> Set<V> vertices(List<? extends Visit<V, ?>> visits) {
+        Set<V> vertices = new HashSet<>();
+        visits.forEach(visit -> vertices.add(visit.vertex()));
+        return vertices;
+    }
+
+}
@@ -5,6 +5,7 @@
 package bka.math.graphs.utils;
 
 import bka.math.graphs.*;
+import java.util.*;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -28,6 +29,20 @@ public class GraphUtilTest {
         assertEquals(4, GraphUtil.degree(graph, "D"));
     }
 
+    @Test
+    public void testAdjacentVertices() {
+        DefaultMutableGraph<String> graph = new DefaultMutableGraph<>();
+        graph.addVertex("i");
+        graph.addEdge(new UndirectedEdge<>("A", "B"));
+        graph.addEdge(new UndirectedEdge<>("B", "C"));
+        graph.addEdge(new DirectedEdge<>("C", "D"));
+        graph.addEdge(new UndirectedEdge<>("D", "D"));
+        assertEquals(Set.of(), GraphUtil.adjacentVertices(graph, "i"));
+        assertEquals(Set.of("A", "C"), GraphUtil.adjacentVertices(graph, "B"));
+        assertEquals(Set.of("B", "D"), GraphUtil.adjacentVertices(graph, "C"));
+        assertEquals(Set.of("C", "D"), GraphUtil.adjacentVertices(graph, "D"));
+    }
+
     @Test
     public void testUndirected() {
         DefaultMutableGraph<String> graph = new DefaultMutableGraph<>();
@@ -0,0 +1,70 @@
+/*
+** © Bart Kampers
+*/
+
+package bka.math.graphs.utils;
+
+import bka.math.graphs.*;
+import java.util.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.*;
+
+public class GraphViewsTest {
+
+    @BeforeEach
+    public void setUp() {
+        ab = new UndirectedEdge<>("a", "b");
+        bc = new DirectedEdge<>("b", "c");
+        cd = new UndirectedEdge<>("c", "d");
+        da = new DirectedEdge<>("d", "a");
+        graph = new DefaultMutableGraph<>(List.of("x"), List.of(ab, bc, cd, da));
+    }
+
+    @Test
+    public void testInduced() {
+        GraphBase<String, Edge<String>> view = GraphViews.induced(graph, vertex -> !vertex.equals("d"));
+        assertEquals(Set.of("a", "b", "c", "x"), view.getVertices());
+        assertEquals(4, view.getVertices().size());
+        assertFalse(view.getVertices().contains("d"));
+        assertEquals(Set.of(ab, bc), view.getEdges());
+        assertFalse(view.getEdges().contains(cd));
+        assertEquals(Set.of(bc), view.getIncidentEdges("c"));
+        assertEquals(Set.of(), view.getIncidentEdges("d"));
+        assertEquals(Set.of(bc), view.getOutgoingEdges("b"));
+        assertEquals(Set.of(), view.getIncomingEdges("a"));
+        assertTrue(view.getIncidentEdges("x").isEmpty());
+    }
+
+    @Test
+    public void testEdgeFiltered() {
+        GraphBase<String, Edge<String>> view = GraphViews.edgeFiltered(graph, edge -> !(edge instanceof DirectedEdge));
+        assertEquals(graph.getVertices(), view.getVertices());
+        assertEquals(Set.of(ab, cd), view.getEdges());
+        assertEquals(Set.of(ab), view.getIncidentEdges("a"));
+        assertEquals(Set.of(), view.getOutgoingEdges("d"));
+        assertEquals(Set.of(), view.getIncidentEdges("y"));
+    }
+
+    @Test
+    public void testUnderlyingChanges() {
+        GraphBase<String, Edge<String>> view = GraphViews.induced(graph, vertex -> vertex.compareTo("c") <= 0);
+        Set<Edge<String>> edges = view.getEdges();
+        assertEquals(2, edges.size());
+        Edge<String> ac = new UndirectedEdge<>("a", "c");
+        graph.addEdge(ac);
+        graph.addEdge(new UndirectedEdge<>("a", "e"));
+        assertEquals(Set.of(ab, bc, ac), edges);
+        assertThrows(UnsupportedOperationException.class, () -> view.getVertices().add("y"));
+        assertThrows(UnsupportedOperationException.class, () -> edges.remove(ab));
+    }
+
+    private Edge<String> ab;
+    private Edge<String> bc;
+    private Edge<String> cd;
+    private Edge<String> da;
+    private DefaultMutableGraph<String> graph;
+
+}
@@ -0,0 +1,63 @@
+/*
+** © Bart Kampers
+*/
+
+package bka.math.graphs.utils;
+
+import java.util.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.*;
+
+public class IndexedDoubleHeapTest {
+
+    @Test
+    public void testPoll() {
+        IndexedDoubleHeap heap = new IndexedDoubleHeap(5);
+        assertTrue(heap.isEmpty());
+        heap.put(3, 3.0);
+        heap.put(1, 1.5);
+        heap.put(4, 0.5);
+        heap.put(0, 2.0);
+        assertEquals(4, heap.size());
+        assertTrue(heap.contains(0));
+        assertFalse(heap.contains(2));
+        assertEquals(4, heap.poll());
+        assertEquals(1, heap.poll());
+        assertEquals(0, heap.poll());
+        assertEquals(3, heap.poll());
+        assertTrue(heap.isEmpty());
+        assertThrows(NoSuchElementException.class, () -> heap.poll());
+    }
+
+    @Test
+    public void testUpdate() {
+        IndexedDoubleHeap heap = new IndexedDoubleHeap(4);
+        heap.put(0, 4.0);
+        heap.put(1, 3.0);
+        heap.put(2, 2.0);
+        heap.put(3, 1.0);
+        heap.put(0, 0.0);
+        heap.put(3, 5.0);
+        assertEquals(0.0, heap.getKey(0));
+        assertEquals(0, heap.poll());
+        assertEquals(2, heap.poll());
+        assertEquals(1, heap.poll());
+        assertEquals(3, heap.poll());
+    }
+
+    @Test
+    public void testClear() {
+        IndexedDoubleHeap heap = new IndexedDoubleHeap(3);
+        heap.put(0, 1.0);
+        heap.put(2, 1.0);
+        heap.clear();
+        assertTrue(heap.isEmpty());
+        assertFalse(heap.contains(2));
+        heap.put(2, 3.0);
+        assertEquals(2, heap.peek());
+    }
+
+}
@@ -0,0 +1,49 @@
+/*
+** © Bart Kampers
+*/
+
+package bka.math.graphs.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.*;
+
+public class UnionFindTest {
+
+    @Test
+    public void testUnion() {
+        UnionFind unionFind = new UnionFind(2);
+        for (int i = 0; i < 6; ++i) {
+            assertEquals(i, unionFind.add());
+        }
+        assertEquals(6, unionFind.size());
+        assertEquals(6, unionFind.getSetCount());
+        assertTrue(unionFind.union(0, 1));
+        assertTrue(unionFind.union(2, 3));
+        assertTrue(unionFind.union(1, 3));
+        assertFalse(unionFind.union(0, 2));
+        assertEquals(3, unionFind.getSetCount());
+        assertTrue(unionFind.connected(0, 3));
+        assertFalse(unionFind.connected(0, 4));
+        assertEquals(unionFind.find(0), unionFind.find(2));
+        assertEquals(5, unionFind.find(5));
+    }
+
+    @Test
+    public void testClear() {
+        UnionFind unionFind = new UnionFind();
+        unionFind.add();
+        unionFind.add();
+        unionFind.union(0, 1);
+        unionFind.clear();
+        assertEquals(0, unionFind.size());
+        assertEquals(0, unionFind.getSetCount());
+        assertThrows(IndexOutOfBoundsException.class, () -> unionFind.find(0));
+        unionFind.add();
+        unionFind.add();
+        assertFalse(unionFind.connected(0, 1));
+    }
+
+}
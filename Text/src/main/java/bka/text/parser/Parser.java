@@ -17,6 +17,31 @@ public class Parser {
         this.grammar = grammar;
     }
 
+    /**
+     * Enable or disable packrat parsing. A packrat parser caches the node, resolved or not, of every nonterminal it resolves at a source index.
+     * Backtracking then never resolves the same nonterminal at the same index twice, so parse time grows linearly with the length of the source,
+     * at the cost of memory for the cache.
+     *
+     * @param packrat
+     */
+    public void setPackrat(boolean packrat) {
+        this.packrat = packrat;
+    }
+
+    /**
+     * Limit the number of nodes a packrat parser caches. When the cache is full the least recently used node is evicted
+     * and resolved again when it is needed. The cache is unbounded by default.
+     *
+     * @param capacity maximum number of cached nodes
+     * @throws IllegalArgumentException if capacity is not positive
+     */
+    public void setPackratCapacity(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Illegal packrat capacity: " + capacity);
+        }
+        packratCapacity = capacity;
+    }
+
     public Node parse(String sourceCode) {
         return parse(sourceCode, grammar.getStartSymbol().get());
     }
@@ -28,6 +53,19 @@ public class Parser {
         return new Engine(sourceCode).parse(startSymbol);
     }
 
+    private Map<Memo, Node> createMemo() {
+        if (packratCapacity == UNBOUNDED) {
+            return new HashMap<>();
+        }
+        int capacity = packratCapacity;
+        return new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Memo, Node> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
 
     private class Engine {
 
@@ -127,11 +165,21 @@ public class Parser {
 
         private Node createNode(int index, String symbol) {
             if (grammar.getRules().getNonterminals().contains(symbol)) {
-                return createTreeNode(index, symbol);
+                return (memo == null) ? createTreeNode(index, symbol) : createMemoizedTreeNode(index, symbol);
             }
             return createMatchNode(symbol, index);
         }
 
+        private Node createMemoizedTreeNode(int index, String nonterminal) {
+            Memo key = new Memo(nonterminal, index);
+            Node node = memo.get(key);
+            if (node == null) {
+                node = createTreeNode(index, nonterminal);
+                memo.put(key, node);
+            }
+            return node;
+        }
+
         private Node createMatchNode(String symbol, int index) {
             Matcher matcher = matchers.computeIfAbsent(symbol, this::createMatcher);
             if (matcher.find(index) && matcher.start() == index) {
@@ -222,14 +270,21 @@ public class Parser {
         private final String source;
         private final Map<String, Matcher> matchers = new HashMap<>();
         private final Map<Integer, Integer> skips = new HashMap<>();
+        private final Map<Memo, Node> memo = (packrat) ? createMemo() : null;
+    }
+
+    private record Memo(String nonterminal, int index) {
     }
 
     private final Grammar grammar;
+    private boolean packrat;
+    private int packratCapacity = UNBOUNDED;
 
     private static final String CANNOT_RESOLVE = "Cannot resolve";
     private static final String NO_MATCH = "No match";
     private static final String NOT_REPLACEABLE = "Not replaceable";
     private static final String UNPARSABLE_CODE_AFTER_SYMBOL = "Unparsable code after symbol [%s]";
     private static final String UNTERMINATED_COMMENT = "Unterminated comment";
+    private static final int UNBOUNDED = Integer.MAX_VALUE;
 
 }
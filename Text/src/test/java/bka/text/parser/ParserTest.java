@@ -1,11 +1,14 @@
 package bka.text.parser;
 
+import java.time.*;
 import java.util.*;
 import java.util.function.*;
 import java.util.stream.*;
 import org.junit.jupiter.api.*;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class ParserTest {
 
@@ -347,6 +350,46 @@ public class ParserTest {
             parser.parse("1*(2+3)*4", "expression"));
     }
 
+    @Test
+    public void testPackrat() {
+        Parser parser = createParser(backtrackingRules(6));
+        Parser packratParser = createParser(backtrackingRules(6));
+        packratParser.setPackrat(true);
+        Parser boundedPackratParser = createParser(backtrackingRules(6));
+        boundedPackratParser.setPackrat(true);
+        boundedPackratParser.setPackratCapacity(2);
+        for (String source : List.of("acbcbc", "a c c c c c", "abbbbb", "acbcb", "acbcbcd", "acbxbc", "b")) {
+            Node expected = parser.parse(source, "S6");
+            assertEqualNodes(printable(expected), packratParser.parse(source, "S6"));
+            assertEqualNodes(printable(expected), boundedPackratParser.parse(source, "S6"));
+        }
+        assertThrows(IllegalArgumentException.class, () -> packratParser.setPackratCapacity(0));
+    }
+
+    @Test
+    public void testPackratTime() {
+        int depth = 40;
+        Parser parser = createParser(backtrackingRules(depth));
+        parser.setPackrat(true);
+        String source = "a" + "c".repeat(depth);
+        Node tree = assertTimeoutPreemptively(Duration.ofSeconds(10), () -> parser.parse(source, "S" + depth));
+        assertTrue(tree.getError().isEmpty());
+        assertEquals(source.length(), tree.getEnd());
+    }
+
+    /**
+     * Every nonterminal resolves the previous nonterminal, then tries two terminals. Without memoization the previous nonterminal is
+     * resolved again for the second terminal, so resolving the last nonterminal takes time exponential to the number of nonterminals.
+     */
+    private static Map<String, List<Sentential>> backtrackingRules(int depth) {
+        Map<String, List<Sentential>> rules = new HashMap<>();
+        rules.put("S0", List.of(Sentential.of("a")));
+        for (int i = 1; i <= depth; ++i) {
+            rules.put("S" + i, List.of(Sentential.of("S" + (i - 1), "b"), Sentential.of("S" + (i - 1), "c")));
+        }
+        return rules;
+    }
+
     private static Parser createParser(Map<String, List<Sentential>> rules, List<CommentBrackets> comments) {
         return new Parser(Grammar.of(new Rules(rules), comments));
     }